@@ -0,0 +1,76 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 5:30 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.benchmark
+ * Class: AdversaryBenchmark
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.benchmark;
+
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import main.model.Adversary;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the adversary of an adversarial game answering a first guess,
+ * its slowest one since every secret word is still possible. This runs between
+ * pressing enter and the start of the flip, so it should stay well under a millisecond.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdversaryBenchmark {
+
+    /** Number of first guesses cycled through */
+    private static final int GUESSES = 256;
+
+    /** Mode being measured */
+    @Param({"3", "4", "5"})
+    public int wordLength;
+
+    /** The adversary, reset before every guess */
+    private Adversary adversary;
+
+    /** Packed first guesses, picked among the secret words */
+    private long[] guesses;
+
+    /** Index of the next guess */
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        adversary = new Adversary(DictionaryRegistry.getSecretDictionary(wordLength));
+        List<String> secretWords = DictionaryRegistry.getSecretWords(wordLength);
+        Random random = new Random(205);
+        guesses = new long[GUESSES];
+        for (int g = 0; g < GUESSES; g++) { guesses[g] = PackedWordSet.pack(secretWords.get(random.nextInt(secretWords.size()))); }
+    }
+
+    /**
+     * @return pattern given to a first guess
+     */
+    @Benchmark
+    public int firstGuess() {
+        adversary.reset();
+        return adversary.respond(guesses[next++ & (GUESSES - 1)]);
+    }
+}
@@ -0,0 +1,124 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 9:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.benchmark
+ * Class: CandidateBenchmark
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.benchmark;
+
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+import main.model.LetterConstraint;
+import main.solver.CandidateIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks narrowing down the secret words still possible after two
+ * guesses, with the bitset index and by evaluating every secret word
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CandidateBenchmark {
+
+    /** Number of game histories cycled through */
+    private static final int HISTORIES = 256;
+
+    /** Guesses in each history */
+    private static final int GUESSES = 2;
+
+    /** Mode being measured */
+    @Param({"3", "4", "5"})
+    public int wordLength;
+
+    /** Index over the secret words */
+    private CandidateIndex index;
+
+    /** Letter indices of every secret word */
+    private byte[][] secrets;
+
+    /** Guesses of each history */
+    private byte[][][] guesses;
+
+    /** Feedback pattern of each guess of each history */
+    private int[][] patterns;
+
+    /** Constraint rebuilt for every history */
+    private LetterConstraint constraint;
+
+    /** Scratch buffer to count unused letters of the secret word */
+    private int[] letterCounts;
+
+    /** Index of the next history */
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> secretWords = ReadWordsFiles.readWords(ReadWordsFiles.getSecretWordFile(wordLength));
+        index = new CandidateIndex(secretWords);
+        secrets = new byte[secretWords.size()][];
+        for (int s = 0; s < secrets.length; s++) { secrets[s] = Feedback.toLetters(secretWords.get(s)); }
+
+        constraint = new LetterConstraint(wordLength);
+        letterCounts = new int[Feedback.ALPHABET_SIZE];
+        Random random = new Random(205);
+        guesses = new byte[HISTORIES][GUESSES][];
+        patterns = new int[HISTORIES][GUESSES];
+        for (int h = 0; h < HISTORIES; h++) {
+            byte[] secret = secrets[random.nextInt(secrets.length)];
+            for (int i = 0; i < GUESSES; i++) {
+                guesses[h][i] = secrets[random.nextInt(secrets.length)];
+                patterns[h][i] = Feedback.evaluate(secret, guesses[h][i], wordLength, letterCounts);
+            }
+        }
+    }
+
+    /**
+     * @return number of secret words still possible, found with the index
+     */
+    @Benchmark
+    public int filterWithIndex() {
+        int h = next++ & (HISTORIES - 1);
+        constraint.reset();
+        for (int i = 0; i < GUESSES; i++) { constraint.add(guesses[h][i], patterns[h][i]); }
+        long[] set = index.all();
+        index.apply(constraint, set);
+        return CandidateIndex.count(set);
+    }
+
+    /**
+     * @return number of secret words still possible, found by evaluating every guess against every word
+     */
+    @Benchmark
+    public int filterByEvaluating() {
+        int h = next++ & (HISTORIES - 1);
+        int count = 0;
+        for (byte[] secret : secrets) {
+            boolean consistent = true;
+            for (int i = 0; i < GUESSES && consistent; i++) {
+                consistent = Feedback.evaluate(secret, guesses[h][i], wordLength, letterCounts) == patterns[h][i];
+            }
+            if (consistent) { count++; }
+        }
+        return count;
+    }
+}
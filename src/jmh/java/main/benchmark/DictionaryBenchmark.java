@@ -0,0 +1,140 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.benchmark
+ * Class: DictionaryBenchmark
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.benchmark;
+
+import main.main.CompiledDictionary;
+import main.main.ReadWordsFiles;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks checking guesses and their prefixes against the allowed words, and loading the word
+ * files, both the way a new game does it (from the shared registry) and from
+ * scratch (scanning the text file, or mapping its compiled form).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DictionaryBenchmark {
+
+    /** Number of guesses cycled through, half allowed and half not */
+    private static final int GUESSES = 1024;
+
+    /** Mode being measured */
+    @Param({"3", "4", "5"})
+    public int wordLength;
+
+    /** Reader with the allowed guesses loaded */
+    private ReadWordsFiles reader;
+
+    /** Guesses to be checked */
+    private String[] guesses;
+
+    /** Guesses to be checked, as typed into a letter buffer */
+    private char[][] guessChars;
+
+    /** Index of the next guess */
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+
+        List<String> allowed = ReadWordsFiles.readWords(ReadWordsFiles.getAllowedWordFile(wordLength));
+        Random random = new Random(205);
+        guesses = new String[GUESSES];
+        guessChars = new char[GUESSES][];
+        for (int i = 0; i < GUESSES; i++) {
+            char[] guess = allowed.get(random.nextInt(allowed.size())).toCharArray();
+            // Every other guess gets a random letter, so most of those aren't words
+            if (i % 2 == 1) { guess[random.nextInt(wordLength)] = (char) ('a' + random.nextInt(26)); }
+            guesses[i] = new String(guess);
+            guessChars[i] = guess;
+        }
+    }
+
+    /**
+     * @return whether the next guess is allowed
+     */
+    @Benchmark
+    public boolean isWordInSet() {
+        return reader.isWordInSet(guesses[next++ & (GUESSES - 1)]);
+    }
+
+    /**
+     * @return whether the next guess is allowed, checked from its letters
+     */
+    @Benchmark
+    public boolean isWordInSetChars() {
+        return reader.isWordInSet(guessChars[next++ & (GUESSES - 1)], 0, wordLength);
+    }
+
+    /**
+     * @return whether an allowed word starts with the next guess, as checked on every keystroke
+     */
+    @Benchmark
+    public boolean hasPrefix() {
+        return reader.getPrefixTrie().hasPrefix(guessChars[next++ & (GUESSES - 1)], 0, wordLength);
+    }
+
+    /**
+     * @return a random secret word, as picked by every new game
+     */
+    @Benchmark
+    public String createRandomWord() {
+        return new ReadWordsFiles().createRandomWord(ReadWordsFiles.getSecretWordFile(wordLength));
+    }
+
+    /**
+     * @return reader with the allowed guesses, as created by every new game
+     */
+    @Benchmark
+    public ReadWordsFiles createWordSet() {
+        ReadWordsFiles newReader = new ReadWordsFiles();
+        newReader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        return newReader;
+    }
+
+    /**
+     * @return every allowed guess, scanned from the text file
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public List<String> readWordFile() {
+        return ReadWordsFiles.readWords(ReadWordsFiles.getAllowedWordFile(wordLength));
+    }
+
+    /**
+     * @return the compiled allowed guess file, checked and memory mapped
+     * @throws IOException if the word file can't be read
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public CompiledDictionary loadCompiledDictionary() throws IOException {
+        return CompiledDictionary.load(ReadWordsFiles.getAllowedWordFile(wordLength));
+    }
+}
@@ -0,0 +1,114 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:05 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.benchmark
+ * Class: FeedbackBenchmark
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.benchmark;
+
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the evaluation of a guess against a secret word, which is what
+ * GuessEvaluator.analyzeGuess does for every submitted guess. GuessEvaluator
+ * itself needs the JavaFX views, so this measures the code it delegates to.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeedbackBenchmark {
+
+    /** Number of secret and guess pairs cycled through, so a single pair isn't measured */
+    private static final int PAIRS = 1024;
+
+    /** Mode being measured */
+    @Param({"3", "4", "5"})
+    public int wordLength;
+
+    /** Letter indices of the secret words */
+    private byte[][] secrets;
+
+    /** Letter indices of the guesses */
+    private byte[][] guesses;
+
+    /** Secret words, as letters */
+    private char[][] secretChars;
+
+    /** Guesses, as letters */
+    private char[][] guessChars;
+
+    /** Scratch buffer to count unused letters of the secret word */
+    private int[] letterCounts;
+
+    /** Index of the next pair */
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<String> secretWords = ReadWordsFiles.readWords(ReadWordsFiles.getSecretWordFile(wordLength));
+        List<String> guessWords = ReadWordsFiles.readWords(ReadWordsFiles.getAllowedWordFile(wordLength));
+        Random random = new Random(205);
+
+        secrets = new byte[PAIRS][];
+        guesses = new byte[PAIRS][];
+        secretChars = new char[PAIRS][];
+        guessChars = new char[PAIRS][];
+        for (int i = 0; i < PAIRS; i++) {
+            String secret = secretWords.get(random.nextInt(secretWords.size()));
+            String guess = guessWords.get(random.nextInt(guessWords.size()));
+            secrets[i] = Feedback.toLetters(secret);
+            guesses[i] = Feedback.toLetters(guess);
+            secretChars[i] = secret.toCharArray();
+            guessChars[i] = guess.toCharArray();
+        }
+        letterCounts = new int[Feedback.ALPHABET_SIZE];
+    }
+
+    /**
+     * @return pattern of the next pair, packed as a base-3 int
+     */
+    @Benchmark
+    public int evaluatePattern() {
+        int i = next++ & (PAIRS - 1);
+        return Feedback.evaluate(secrets[i], guesses[i], wordLength, letterCounts);
+    }
+
+    /**
+     * @return pattern of the next pair, from its letters
+     */
+    @Benchmark
+    public int evaluateChars() {
+        int i = next++ & (PAIRS - 1);
+        return Feedback.evaluate(secretChars[i], guessChars[i], wordLength, letterCounts);
+    }
+
+    /**
+     * @return pattern of the next pair decoded into -, + and *, as analyzeGuess returns it
+     */
+    @Benchmark
+    public String analyzeGuess() {
+        int i = next++ & (PAIRS - 1);
+        return Feedback.decodePattern(Feedback.evaluate(secrets[i], guesses[i], wordLength, letterCounts), wordLength);
+    }
+}
@@ -0,0 +1,103 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:35 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.benchmark
+ * Class: GameBenchmark
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.benchmark;
+
+import main.main.ReadWordsFiles;
+import main.model.GameState;
+import main.model.WordleGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the state transitions of a whole game: typing each letter,
+ * checking each guess, and submitting it, until the secret word is found on
+ * the last row or the game is lost.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+
+    /** Number of games cycled through */
+    private static final int GAMES = 256;
+
+    /** Mode being measured */
+    @Param({"3", "4", "5"})
+    public int wordLength;
+
+    /** Reader with the allowed guesses loaded, shared by every game */
+    private ReadWordsFiles reader;
+
+    /** Secret word of each game */
+    private String[] secrets;
+
+    /** Guesses of each game, by row */
+    private String[][] guesses;
+
+    /** Letters typed for each guess, by row */
+    private char[][][] typed;
+
+    /** Index of the next game */
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+
+        List<String> secretWords = ReadWordsFiles.readWords(ReadWordsFiles.getSecretWordFile(wordLength));
+        Random random = new Random(205);
+        secrets = new String[GAMES];
+        guesses = new String[GAMES][WordleGame.MAX_GUESSES];
+        typed = new char[GAMES][WordleGame.MAX_GUESSES][];
+        for (int g = 0; g < GAMES; g++) {
+            secrets[g] = secretWords.get(random.nextInt(secretWords.size()));
+            // Half of the games are won on the last row, the others are lost
+            for (int row = 0; row < WordleGame.MAX_GUESSES; row++) {
+                String guess = secretWords.get(random.nextInt(secretWords.size()));
+                if (guess.equals(secrets[g]) || (row == WordleGame.MAX_GUESSES - 1 && g % 2 == 0)) { guess = secrets[g]; }
+                guesses[g][row] = guess;
+                typed[g][row] = guess.toCharArray();
+            }
+        }
+    }
+
+    /**
+     * @return state of the game once it is over
+     */
+    @Benchmark
+    public GameState playGame() {
+        int g = next++ & (GAMES - 1);
+        WordleGame game = new WordleGame(wordLength, secrets[g], reader);
+        game.setGameState(GameState.GAME_IN_PROGRESS);
+        for (int row = 0; game.getGameState().isPlayable(); row++) {
+            for (int i = 0; i < wordLength; i++) { game.incrementColumn(); }
+            if (game.isAllowed(typed[g][row], 0, wordLength)) {
+                game.submitGuess(guesses[g][row]);
+            }
+        }
+        return game.getGameState();
+    }
+}
@@ -0,0 +1,151 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 4:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.controller
+ * Class: MultiBoardController
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.controller;
+
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.input.KeyEvent;
+import main.main.PackedWordSet;
+import main.model.MultiBoardGame;
+import main.view.MultiBoardView;
+
+/**
+ * Takes care of typing, deleting and entering guesses in a multi-board game,
+ * from the physical keyboard or the virtual one. The guess being typed is kept
+ * here, and only goes to the game once it is a complete, allowed word.
+ */
+public class MultiBoardController {
+
+    /** The game being played */
+    private final MultiBoardGame game;
+
+    /** The view of the game */
+    private final MultiBoardView view;
+
+    /** Letters of the guess being typed, in lowercase */
+    private final char[] guessLetters;
+
+    /** Number of letters typed so far */
+    private int typed;
+
+    /**
+     * Simple constructor for a multi-board game
+     *
+     * @param game - the game being played
+     * @param view - the view of the game
+     * @param scene - the scene to capture key events
+     */
+    public MultiBoardController(MultiBoardGame game, MultiBoardView view, Scene scene) {
+        this.game = game;
+        this.view = view;
+        this.guessLetters = new char[game.getWordLength()];
+
+        scene.setOnKeyPressed(this::takeActionFromKeyPressed);
+        for (Button key : view.getVk().getKeyboardKeys()) {
+            key.setOnMouseClicked(event -> takeActionFromVirtualKeyboard(key));
+        }
+        view.getPlayAgainBtn().setOnMouseClicked(event -> restartGame());
+    }
+
+    /**
+     * Takes action from key pressed on physical keyboard
+     */
+    private void takeActionFromKeyPressed(KeyEvent event) {
+        switch (event.getCode()) {
+            case BACK_SPACE:
+                deleteLetter();
+                break;
+            case ENTER:
+                checkInput();
+                break;
+            default:
+                if (event.getCode().isLetterKey()) { typeLetter(event.getText()); }
+                break;
+        }
+    }
+
+    /**
+     * Takes action from key clicked on virtual keyboard
+     */
+    private void takeActionFromVirtualKeyboard(Button key) {
+        switch (key.getText()) {
+            case "": // the delete key is an icon
+                deleteLetter();
+                break;
+            case "ENTER":
+                checkInput();
+                break;
+            default:
+                typeLetter(key.getText());
+                break;
+        }
+    }
+
+    /**
+     * Adds a letter to the guess being typed, if the game is on and the guess isn't complete
+     */
+    private void typeLetter(String text) {
+        if (!game.getGameState().isPlayable() || typed == guessLetters.length || text.isEmpty()) { return; }
+
+        char letter = Character.toLowerCase(text.charAt(0));
+        if (letter < 'a' || letter > 'z') { return; }
+        guessLetters[typed] = letter;
+        view.showTyping(typed, Character.toUpperCase(letter));
+        typed++;
+    }
+
+    /**
+     * Removes the last letter of the guess being typed
+     */
+    private void deleteLetter() {
+        if (!game.getGameState().isPlayable() || typed == 0) { return; }
+
+        typed--;
+        view.showDelete(typed);
+    }
+
+    /**
+     * Submits the guess being typed on every unsolved board, once it is a complete, allowed word
+     */
+    private void checkInput() {
+        if (!game.getGameState().isPlayable()) { return; }
+
+        if (typed < guessLetters.length) {
+            view.showMessage("Not enough letters");
+        }
+        else if (!game.isAllowed(guessLetters, 0, guessLetters.length)) {
+            view.showMessage("Invalid word");
+        }
+        else {
+            int row = game.submitGuess(PackedWordSet.pack(guessLetters, 0, guessLetters.length));
+            typed = 0;
+            view.revealRow(row);
+        }
+    }
+
+    /**
+     * Starts a new game with new secret words, clearing the boards in place
+     */
+    private void restartGame() {
+        int rowsUsed = game.getRow();
+        game.restart();
+        typed = 0;
+        view.resetBoard(rowsUsed);
+    }
+}
@@ -23,17 +23,22 @@ import javafx.event.Event;
 import javafx.event.EventHandler;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
+import javafx.scene.control.Label;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.text.Text;
-import javafx.stage.Stage;
-import javafx.stage.WindowEvent;
+import main.events.GameRestartEvent;
+import main.events.GuessEvent;
+import main.model.Feedback;
+import main.model.WordleGame;
 import main.model.WordleModel;
 import main.main.GuessEvaluator;
-import main.main.WordleMain;
+import main.solver.WordleSolver;
 import main.view.EndMessageView;
 import main.view.WordleView;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * This class takes care of event handling. Some examples are
@@ -66,6 +71,9 @@ public class WordleController {
     /** Initial y-coordinate of node being dragged */
     private double initialY;
 
+    /** Letters of the guess being checked, reused for every guess */
+    private char[] guessLetters;
+
     /**
      * Simple constructor for our WorldFX game
      *
@@ -82,9 +90,10 @@ public class WordleController {
 
         // Guess state starts out unchecked
         this.guessState = GuessState.UNCHECKED;
+        this.guessLetters = new char[this.wordleModel.getWordLength()];
 
         // Initialize the guess evaluator and end message
-        this.evaluator = new GuessEvaluator(this.wordleModel, this.wordleView, this.wordleModel.getSecretWord());
+        this.evaluator = new GuessEvaluator(this.wordleModel, this.wordleView);
 
         initEventHandlers();
     }
@@ -110,51 +119,60 @@ public class WordleController {
         });
 
         this.wordleView.getPlayAgainBtn().setOnMouseClicked(this::restartGame);
+
+        // If hint button is clicked
+        this.wordleModel.getHeader().getHintButton().setOnMouseClicked(event -> showHint());
     }
 
     /**
-     * Starts a new game if user would like to continue. Ensures
-     * that screen stays on the same size user was using it.
-     *
-     * @param event button handler
+     * Asks the solver for the best next guess and shows it over the tiles.
+     * The solver runs in the background, since the first hint of a mode may
+     * have to build the pattern matrix.
      */
-    public void restartGame(Event event) {
-        // Stops from implicitly exiting out the application before a
-        // new stage is shown.
-        Platform.setImplicitExit(false);
-
-        // The main class or our implementation
-        WordleMain wm = new WordleMain();
-
-        Button button = (Button) event.getSource();
-        Stage stage = (Stage) button.getScene().getWindow();
-
-        // Close the scene a start a new one.
-        stage.close();
-        try {
-            wm.init();
-        } catch (Exception e) {
-            e.printStackTrace();
+    private void showHint() {
+        // If the game is not playable return to the call stack.
+        if (!this.wordleModel.getGameState().isPlayable()) {
+            return;
         }
-        // Set the streak of the game.
-        wm.setStreak(this.wordleModel.getCurrentWinStreak());
 
-        // Reapply last window position.
-        stage.setX(stage.getX());
-        stage.setY(stage.getY());
-
-        // Reapply last window size.
-        stage.setHeight(stage.getHeight());
-        stage.setWidth(stage.getWidth());
+        // Copy the history now, the game keeps changing on this thread
+        WordleGame game = this.wordleModel.getGame();
+        String[] guesses = new String[game.getRow()];
+        int[] patterns = new int[game.getRow()];
+        for (int row = 0; row < guesses.length; row++) {
+            guesses[row] = game.getGuess(row);
+            patterns[row] = game.getPattern(row);
+        }
 
-        // Start the stage again.
-        wm.start(stage);
+        boolean hardMode = game.isHardMode();
+        CompletableFuture.supplyAsync(() -> WordleSolver.forWordLength(game.getWordLength()).suggest(guesses, patterns, hardMode))
+                .thenAccept(hint -> Platform.runLater(() -> this.endMessage.invalidInputScreen("Try " + hint)))
+                .exceptionally(e -> {
+                    e.printStackTrace();
+                    return null;
+                });
+    }
 
-        // Finish stage once closed
-        stage.setOnCloseRequest(e -> {
-            Platform.exit();
-            System.exit(0);
-        });
+    /**
+     * Starts a new game if user would like to continue. The window, scene,
+     * tiles, keyboard and header are all kept: the game picks another secret
+     * word from the cached list and the board is cleared in place, so the
+     * new game shows up on the next frame. Win streak and hard mode are kept.
+     *
+     * @param event button handler
+     */
+    public void restartGame(Event event) {
+        GameRestartEvent restartEvent = new GameRestartEvent();
+        restartEvent.begin();
+        restartEvent.wordLength = this.wordleModel.getWordLength();
+        restartEvent.previousGuesses = this.wordleModel.getGame().getRow();
+        restartEvent.previousState = this.wordleModel.getGameState().name();
+
+        this.wordleModel.restart();
+        this.evaluator.restart();
+        this.wordleView.resetBoard();
+        this.guessState = GuessState.UNCHECKED;
+        restartEvent.commit();
     }
 
     /**
@@ -223,38 +241,85 @@ public class WordleController {
     }
 
     /**
-     * Checks for validity of input. Checks if input has enough letters
-     * and if it is in the word list.
+     * Checks for validity of input. Checks if input has enough letters,
+     * if it is in the word list, and if it reuses every hint in hard mode.
      */
     private void checkInput() {
-        String guess = getGuessFromTiles().toString().toLowerCase();
+        // Event fields are only filled in while a recording wants them, so an unrecorded guess allocates nothing
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        boolean recorded = event.isEnabled();
+
         // Ensure guess is valid by length and being in word list
         if (this.wordleModel.getColumn() == (this.wordleModel.getWordLength() - 1)) {
-            if (this.wordleModel.getReader().isWordInSet(guess)) {
-                // Evaluate guess, switch the guess state to checked, and jump to next guess
-                this.evaluator.feedback(guess);
-                this.guessState = GuessState.CHECKED;
-                this.wordleModel.incrementRow();
-                this.wordleModel.setColumn(0);
-            }
-            else {
+            long validationStart = System.nanoTime();
+            readGuessFromTiles();
+            WordleGame game = this.wordleModel.getGame();
+            int wordLength = this.wordleModel.getWordLength();
+            if (!game.isAllowed(this.guessLetters, 0, wordLength)) {
+                if (recorded) { recordRejection(event, validationStart, "Invalid word"); }
                 this.endMessage.invalidInputScreen("Invalid word");
                 this.wordleView.horizontalShakeTiles();
             }
+            else if (!game.honorsRevealedHints(this.guessLetters, 0, wordLength)) {
+                String missingHint = game.describeMissingHint(this.guessLetters, 0, wordLength);
+                if (recorded) { recordRejection(event, validationStart, missingHint); }
+                this.endMessage.invalidInputScreen(missingHint);
+                this.wordleView.horizontalShakeTiles();
+            }
+            else {
+                long validationTime = System.nanoTime() - validationStart;
+                String guess = new String(this.guessLetters, 0, wordLength);
+                // Evaluate guess (the game jumps to next guess), and switch the guess state to checked
+                this.evaluator.feedback(guess);
+                this.guessState = GuessState.CHECKED;
+                if (recorded) {
+                    fillEvent(event, guess);
+                    event.validationTime = validationTime;
+                    event.accepted = true;
+                    event.evaluationTime = game.getEvaluationNanos();
+                    event.pattern = Feedback.decodePattern(game.getPattern(game.getRow() - 1), wordLength);
+                }
+            }
         }
         else {
+            if (recorded) {
+                fillEvent(event, null);
+                event.rejection = "Not enough letters";
+            }
             this.endMessage.invalidInputScreen("Not enough letters");
             this.wordleView.horizontalShakeTiles();
         }
+        event.commit();
+    }
+
+    /**
+     * Fills in a guess event turned down after validation
+     */
+    private void recordRejection(GuessEvent event, long validationStart, String rejection) {
+        event.validationTime = System.nanoTime() - validationStart;
+        fillEvent(event, new String(this.guessLetters, 0, this.wordleModel.getWordLength()));
+        event.rejection = rejection;
     }
 
     /**
-     * @return the guess from reading the labels aka tiles
+     * Fills in the fields every guess event has
      */
-    private StringBuffer getGuessFromTiles() {
-        StringBuffer s = new StringBuffer("");
-        this.wordleModel.getListOfGuesses().get(this.wordleModel.getRow()).forEach(t -> s.append(t.getText()));
-        return s;
+    private void fillEvent(GuessEvent event, String guess) {
+        event.wordLength = this.wordleModel.getWordLength();
+        event.adversarial = this.wordleModel.getGame().getAdversary() != null;
+        event.guess = guess;
+    }
+
+    /**
+     * Reads the guess from the labels aka tiles into guessLetters, in lowercase
+     */
+    private void readGuessFromTiles() {
+        ArrayList<Label> tiles = this.wordleModel.getListOfGuesses().get(this.wordleModel.getRow());
+        for (int i = 0; i < this.wordleModel.getWordLength(); i++) {
+            String text = tiles.get(i).getText();
+            this.guessLetters[i] = text.isEmpty() ? ' ' : Character.toLowerCase(text.charAt(0));
+        }
     }
 
     /**
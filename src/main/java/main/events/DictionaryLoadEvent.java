@@ -0,0 +1,57 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:20 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.events
+ * Class: DictionaryLoadEvent
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a word file loaded from disk, lasting from opening
+ * the file to having its words in memory
+ */
+@Name(DictionaryLoadEvent.NAME)
+@Label("Dictionary Load")
+@Category({"WordFX", "Dictionary"})
+@Description("Word file loaded from its compiled form, compiling it first if needed")
+public class DictionaryLoadEvent extends Event {
+
+    /** Name of the event in a recording */
+    public static final String NAME = "wordfx.DictionaryLoad";
+
+    /** The word file */
+    @Label("File")
+    public String file;
+
+    /** Number of words loaded */
+    @Label("Words")
+    public int words;
+
+    /** Size of the compiled file */
+    @Label("Bytes")
+    @DataAmount
+    public long bytes;
+
+    /** True if the word file had to be compiled first */
+    @Label("Compiled")
+    public boolean compiled;
+}
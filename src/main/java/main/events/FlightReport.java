@@ -0,0 +1,215 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 7:05 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.events
+ * Class: FlightReport
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.events;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summary of the WordFX events in a flight recording: for guesses, their
+ * validation and evaluation, dictionary loads, scene creation and restarts,
+ * how many there were and how long they took (total, mean, median, 99th
+ * percentile and max), along with the share of the recorded time each one
+ * takes, why guesses were turned down, and what every word file cost to load.
+ * Every other event of the recording is skipped.
+ */
+public class FlightReport {
+
+    /** Durations of every kind of event, by label, in the order they are printed */
+    private final Map<String, Timings> timings = new LinkedHashMap<>();
+
+    /** Number of guesses turned down, by reason */
+    private final Map<String, Integer> rejections = new TreeMap<>();
+
+    /** Words, bytes and time of every dictionary loaded, by word file */
+    private final Map<String, String> dictionaryLoads = new TreeMap<>();
+
+    /** Number of guesses submitted */
+    private int acceptedGuesses;
+
+    /**
+     * Creates an empty report, every kind of event listed even if the recording has none
+     */
+    public FlightReport() {
+        for (String label : new String[] {"Guess", "  validation", "  evaluation", "  evaluation (absurdle)",
+                "Dictionary load", "Scene creation", "Game restart"}) {
+            timings.put(label, new Timings());
+        }
+    }
+
+    /**
+     * Reads every WordFX event of a recording
+     *
+     * @param recording - the .jfr file
+     * @return report of its events
+     * @throws IOException if the file can't be read or isn't a recording
+     */
+    public static FlightReport read(Path recording) throws IOException {
+        FlightReport report = new FlightReport();
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) { report.add(file.readEvent()); }
+        }
+        return report;
+    }
+
+    /**
+     * Adds an event to the report, if it is one of the WordFX events
+     *
+     * @param event - an event of the recording
+     */
+    public void add(RecordedEvent event) {
+        long nanos = event.getDuration().toNanos();
+        switch (event.getEventType().getName()) {
+            case GuessEvent.NAME:
+                timings.get("Guess").add(nanos);
+                // Guesses without enough letters never reached validation, they would only drag its times to 0
+                if (event.getString("guess") != null) {
+                    timings.get("  validation").add(event.getLong("validationTime"));
+                }
+                if (event.getBoolean("accepted")) {
+                    acceptedGuesses++;
+                    String label = event.getBoolean("adversarial") ? "  evaluation (absurdle)" : "  evaluation";
+                    timings.get(label).add(event.getLong("evaluationTime"));
+                }
+                else {
+                    rejections.merge(event.getString("rejection"), 1, Integer::sum);
+                }
+                break;
+            case DictionaryLoadEvent.NAME:
+                timings.get("Dictionary load").add(nanos);
+                dictionaryLoads.put(event.getString("file"), String.format("%7d words %9d bytes %10s%s",
+                        event.getInt("words"), event.getLong("bytes"), millis(nanos),
+                        event.getBoolean("compiled") ? "  (compiled)" : ""));
+                break;
+            case SceneCreationEvent.NAME:
+                timings.get("Scene creation").add(nanos);
+                break;
+            case GameRestartEvent.NAME:
+                timings.get("Game restart").add(nanos);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * @param label - label of a kind of event, as printed
+     * @return number of events of that kind
+     */
+    public int getCount(String label) { return timings.get(label).count; }
+
+    /**
+     * @param label - label of a kind of event, as printed
+     * @return total duration of the events of that kind, in nanoseconds
+     */
+    public long getTotalNanos(String label) { return timings.get(label).total; }
+
+    /**
+     * @return the report, as a table followed by the details of guesses and dictionaries
+     */
+    public String format() {
+        // Shares are of the time spent in top level events, the indented ones are part of a guess
+        long recorded = 0;
+        for (Map.Entry<String, Timings> entry : timings.entrySet()) {
+            if (!entry.getKey().startsWith(" ")) { recorded += entry.getValue().total; }
+        }
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("%-24s %6s %10s %10s %10s %10s %10s %6s%n",
+                "Event", "Count", "Total", "Mean", "p50", "p99", "Max", "Share"));
+        for (Map.Entry<String, Timings> entry : timings.entrySet()) {
+            Timings t = entry.getValue();
+            if (t.count == 0) {
+                report.append(String.format("%-24s %6d%n", entry.getKey(), 0));
+                continue;
+            }
+            long[] sorted = Arrays.copyOf(t.nanos, t.count);
+            Arrays.sort(sorted);
+            report.append(String.format("%-24s %6d %10s %10s %10s %10s %10s %5.1f%%%n", entry.getKey(), t.count,
+                    millis(t.total), millis(t.total / t.count), millis(percentile(sorted, 50)),
+                    millis(percentile(sorted, 99)), millis(sorted[sorted.length - 1]),
+                    recorded == 0 ? 0.0 : 100.0 * t.total / recorded));
+        }
+
+        report.append(String.format("%nGuesses: %d submitted, %d turned down%n",
+                acceptedGuesses, getCount("Guess") - acceptedGuesses));
+        rejections.forEach((reason, count) -> report.append(String.format("  %6d  %s%n", count, reason)));
+        if (!dictionaryLoads.isEmpty()) {
+            report.append(String.format("%nDictionaries loaded:%n"));
+            dictionaryLoads.forEach((file, load) -> report.append(String.format("  %-44s %s%n", file, load)));
+        }
+        return report.toString();
+    }
+
+    /**
+     * @return value below which the given percent of the sorted values are
+     */
+    private static long percentile(long[] sorted, int percent) {
+        return sorted[Math.max(0, (int) Math.ceil(sorted.length * percent / 100.0) - 1)];
+    }
+
+    /**
+     * @return nanoseconds as milliseconds, for the report
+     */
+    private static String millis(long nanos) { return String.format("%.3f ms", nanos / 1e6); }
+
+    /**
+     * Durations of one kind of event
+     */
+    private static class Timings {
+
+        /** Every duration, in nanoseconds, in the first count slots */
+        private long[] nanos = new long[16];
+
+        /** Number of durations */
+        private int count;
+
+        /** Sum of the durations, in nanoseconds */
+        private long total;
+
+        private void add(long duration) {
+            if (count == nanos.length) { nanos = Arrays.copyOf(nanos, count * 2); }
+            nanos[count++] = duration;
+            total += duration;
+        }
+    }
+
+    /**
+     * Prints the report of a recording, made for example with
+     * gradle run -Pjfr=wordfx.jfr
+     *
+     * @param args - the .jfr file
+     * @throws IOException if the file can't be read or isn't a recording
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: FlightReport <recording.jfr>");
+            return;
+        }
+        System.out.print(read(Paths.get(args[0])).format());
+    }
+}
@@ -0,0 +1,51 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:40 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.events
+ * Class: GameRestartEvent
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight recorder event for a new game started from the end screen, lasting
+ * until the board is cleared and ready for the first guess
+ */
+@Name(GameRestartEvent.NAME)
+@Label("Game Restart")
+@Category({"WordFX", "Game"})
+@Description("New game started on the same screen")
+public class GameRestartEvent extends Event {
+
+    /** Name of the event in a recording */
+    public static final String NAME = "wordfx.GameRestart";
+
+    /** Length of the words in the game */
+    @Label("Word Length")
+    public int wordLength;
+
+    /** Guesses submitted in the game that ended */
+    @Label("Previous Guesses")
+    public int previousGuesses;
+
+    /** How the game that ended finished */
+    @Label("Previous State")
+    public String previousState;
+}
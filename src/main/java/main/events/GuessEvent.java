@@ -0,0 +1,75 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.events
+ * Class: GuessEvent
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for a guess entered by the player, from checking it
+ * against the allowed words and the hard mode hints to evaluating it. Guesses
+ * that are turned down are recorded too, without an evaluation.
+ */
+@Name(GuessEvent.NAME)
+@Label("Guess")
+@Category({"WordFX", "Game"})
+@Description("Guess entered by the player, validated and evaluated")
+public class GuessEvent extends Event {
+
+    /** Name of the event in a recording */
+    public static final String NAME = "wordfx.Guess";
+
+    /** Length of the words in the game */
+    @Label("Word Length")
+    public int wordLength;
+
+    /** The guess, in lowercase, null if it didn't have enough letters to be validated */
+    @Label("Guess")
+    public String guess;
+
+    /** True if the guess was submitted, false if it was turned down */
+    @Label("Accepted")
+    public boolean accepted;
+
+    /** Why the guess was turned down, null if it was accepted */
+    @Label("Rejection")
+    public String rejection;
+
+    /** Time spent checking the guess against the allowed words and hints */
+    @Label("Validation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long validationTime;
+
+    /** Time spent evaluating the guess, 0 if it was turned down */
+    @Label("Evaluation Time")
+    @Timespan(Timespan.NANOSECONDS)
+    public long evaluationTime;
+
+    /** Feedback of the guess with *, + and - characters, null if it was turned down */
+    @Label("Pattern")
+    public String pattern;
+
+    /** True if the game is adversarial, where evaluating splits every secret word left */
+    @Label("Adversarial")
+    public boolean adversarial;
+}
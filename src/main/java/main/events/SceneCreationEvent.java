@@ -0,0 +1,57 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 6:30 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.events
+ * Class: SceneCreationEvent
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Flight recorder event for the game screen being created once the player
+ * chose a mode, lasting from the click to a playable board
+ */
+@Name(SceneCreationEvent.NAME)
+@Label("Scene Creation")
+@Category({"WordFX", "Interface"})
+@Description("Game screen created after a mode was chosen")
+public class SceneCreationEvent extends Event {
+
+    /** Name of the event in a recording */
+    public static final String NAME = "wordfx.SceneCreation";
+
+    /** Length of the words in the game */
+    @Label("Word Length")
+    public int wordLength;
+
+    /** Kind of game: classic, daily, absurdle or multi-board */
+    @Label("Mode")
+    public String mode;
+
+    /** Number of boards played at once */
+    @Label("Boards")
+    public int boards;
+
+    /** Time from the launch of the application to a playable board */
+    @Label("Since Launch")
+    @Timespan(Timespan.NANOSECONDS)
+    public long sinceLaunch;
+}
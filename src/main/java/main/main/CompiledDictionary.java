@@ -0,0 +1,262 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 11:20 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: CompiledDictionary
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import main.events.DictionaryLoadEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Binary form of a word file. Every word is stored as a long packed with
+ * {@link PackedWordSet#pack(CharSequence)}, after a header with the word length,
+ * word count and a checksum of the words. The binary file is memory mapped,
+ * so loading a dictionary doesn't tokenize anything. The text files stay the
+ * source of truth: the header also records the size and modification time of
+ * the text file, and the binary file is compiled again whenever they change.
+ */
+public class CompiledDictionary {
+
+    /** Identifies a compiled dictionary file ("WFDC") */
+    private static final int MAGIC = 0x57464443;
+
+    /** Version of the file layout, bump it whenever the layout changes */
+    private static final int VERSION = 1;
+
+    /** Bytes before the words: magic, version, word length, count, source size, source time and checksum */
+    private static final int HEADER_SIZE = 4 * 4 + 8 * 3;
+
+    /** Bytes used by each packed word */
+    private static final int WORD_SIZE = Long.BYTES;
+
+    /** Length of every word in the dictionary */
+    private final int wordLength;
+
+    /** Number of words in the dictionary */
+    private final int size;
+
+    /** The compiled file, words start at HEADER_SIZE */
+    private final ByteBuffer contents;
+
+    /**
+     * Private constructor, dictionaries are created through {@link #load(String)}
+     *
+     * @param contents - header followed by the packed words
+     */
+    private CompiledDictionary(ByteBuffer contents) {
+        this.contents = contents;
+        this.wordLength = contents.getInt(8);
+        this.size = contents.getInt(12);
+    }
+
+    /**
+     * Loads the compiled form of a word file, compiling it first if it doesn't
+     * exist yet or the word file has changed since it was compiled
+     *
+     * @param wordFile - the word file
+     * @return the dictionary with every word in the file, in the same order
+     * @throws IOException if the word file can't be read or has invalid words
+     */
+    public static CompiledDictionary load(String wordFile) throws IOException {
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        Path source = Paths.get(wordFile);
+        Path compiled = compiledPathOf(source);
+
+        ByteBuffer contents = mapIfUpToDate(source, compiled);
+        if (contents == null) {
+            compile(source, compiled);
+            event.compiled = true;
+            contents = mapIfUpToDate(source, compiled);
+            if (contents == null) { throw new IOException("Could not compile " + wordFile); }
+        }
+        CompiledDictionary dictionary = new CompiledDictionary(contents);
+
+        event.file = wordFile;
+        event.words = dictionary.size();
+        event.bytes = contents.capacity();
+        event.commit();
+        return dictionary;
+    }
+
+    /**
+     * Creates a dictionary in memory, for when a word file can't be compiled. Words
+     * that can't be packed, or don't have the length of the first word, are left out.
+     *
+     * @param words - every word of the dictionary, in order
+     * @return the dictionary with the same words, in the same order
+     */
+    public static CompiledDictionary of(List<String> words) {
+        int wordLength = words.isEmpty() ? 0 : words.get(0).length();
+        long[] packedWords = words.stream().filter(word -> word.length() == wordLength)
+                .mapToLong(PackedWordSet::pack).filter(packed -> packed != -1).toArray();
+
+        ByteBuffer contents = ByteBuffer.allocate(HEADER_SIZE + packedWords.length * WORD_SIZE);
+        contents.position(HEADER_SIZE);
+        for (long packed : packedWords) { contents.putLong(packed); }
+        contents.putInt(0, MAGIC).putInt(4, VERSION).putInt(8, wordLength).putInt(12, packedWords.length)
+                .putLong(32, checksum(contents.slice(HEADER_SIZE, packedWords.length * WORD_SIZE)));
+        return new CompiledDictionary(contents.clear());
+    }
+
+    /**
+     * Compiles a word file into its binary form. Every word must have the same
+     * length and be made of letters only.
+     *
+     * @param source - the word file
+     * @param compiled - where the binary form is written
+     * @throws IOException if the word file can't be read or has invalid words
+     */
+    public static void compile(Path source, Path compiled) throws IOException {
+        long sourceSize = Files.size(source);
+        long sourceTime = Files.getLastModifiedTime(source).toMillis();
+        ArrayList<String> words = ReadWordsFiles.readWords(source.toString());
+
+        int wordLength = words.isEmpty() ? 0 : words.get(0).length();
+        ByteBuffer packedWords = ByteBuffer.allocate(words.size() * WORD_SIZE);
+        for (String word : words) {
+            long packed = PackedWordSet.pack(word);
+            if (word.length() != wordLength || packed == -1) {
+                throw new IOException("Invalid word \"" + word + "\" in " + source);
+            }
+            packedWords.putLong(packed);
+        }
+        packedWords.flip();
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).putInt(VERSION).putInt(wordLength).putInt(words.size())
+                .putLong(sourceSize).putLong(sourceTime).putLong(checksum(packedWords));
+        header.flip();
+
+        // Write through a temporary file, so a half written file is never mapped
+        Path directory = compiled.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, compiled.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            while (header.hasRemaining() || packedWords.hasRemaining()) { channel.write(new ByteBuffer[] {header, packedWords}); }
+        }
+        Files.move(temporary, compiled, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Memory maps the compiled file if it exists, is intact and was compiled
+     * from the current version of the word file
+     *
+     * @return the mapped file, or null if it has to be compiled again
+     */
+    private static ByteBuffer mapIfUpToDate(Path source, Path compiled) throws IOException {
+        if (!Files.isRegularFile(compiled)) { return null; }
+
+        try (FileChannel channel = FileChannel.open(compiled, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) { return null; }
+
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) { return null; }
+            if (channel.size() != HEADER_SIZE + (long) mapped.getInt(12) * WORD_SIZE) { return null; }
+            if (mapped.getLong(16) != Files.size(source)
+                    || mapped.getLong(24) != Files.getLastModifiedTime(source).toMillis()) { return null; }
+            if (mapped.getLong(32) != checksum(mapped.slice(HEADER_SIZE, mapped.capacity() - HEADER_SIZE))) { return null; }
+            return mapped;
+        }
+    }
+
+    /**
+     * @return checksum of the packed words
+     */
+    private static long checksum(ByteBuffer packedWords) {
+        CRC32 crc = new CRC32();
+        crc.update(packedWords.duplicate());
+        return crc.getValue();
+    }
+
+    /**
+     * @param source - a word file
+     * @return where the binary form of the word file is kept
+     */
+    private static Path compiledPathOf(Path source) {
+        String name = source.getFileName().toString().replaceFirst("\\.txt$", "");
+        return Paths.get(ReadWordsFiles.CACHE_DIRECTORY, name + ".dict");
+    }
+
+    /**
+     * @param index - position of the word in the word file
+     * @return the word, packed with {@link PackedWordSet#pack(CharSequence)}
+     */
+    public long packedWord(int index) { return contents.getLong(HEADER_SIZE + index * WORD_SIZE); }
+
+    /**
+     * @param index - position of the word in the word file
+     * @return the word in lowercase
+     */
+    public String word(int index) { return PackedWordSet.unpack(packedWord(index)); }
+
+    /**
+     * @return every word in the dictionary, in the order of the word file
+     */
+    public List<String> words() {
+        ArrayList<String> words = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) { words.add(word(i)); }
+        return words;
+    }
+
+    /**
+     * Adds every word of the dictionary to a set, without unpacking them
+     *
+     * @param set - set of words to be filled
+     */
+    public void addTo(PackedWordSet set) {
+        for (int i = 0; i < size; i++) { set.addPacked(packedWord(i)); }
+    }
+
+    /**
+     * @return length of every word in the dictionary
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return number of words in the dictionary
+     */
+    public int size() { return size; }
+
+    /**
+     * Compiles every word file used by the game again, whether they changed or not.
+     * Run with: gradle run -PmainClass=main.main.CompiledDictionary
+     *
+     * @param args - not used
+     * @throws IOException if a word file can't be read or has invalid words
+     */
+    public static void main(String[] args) throws IOException {
+        for (int wordLength : ReadWordsFiles.getWordLengths()) {
+            for (String wordFile : new String[] {ReadWordsFiles.getSecretWordFile(wordLength), ReadWordsFiles.getAllowedWordFile(wordLength)}) {
+                Path source = Paths.get(wordFile);
+                compile(source, compiledPathOf(source));
+                System.out.println("Compiled " + wordFile + " into " + compiledPathOf(source));
+            }
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 2:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: DailyPuzzle
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Picks the secret word of numbered puzzles, like the daily puzzle, so every
+ * game on every machine agrees on it without talking to each other. Puzzle
+ * numbers go through a fixed permutation of the secret word list: every word
+ * comes up once before any word comes up again, and each pass through the list
+ * uses a different order. The permutation is a small Feistel network, which
+ * finds the position of one puzzle directly, so picking a word takes the same
+ * time for puzzle 1 as for puzzle 10000, and with
+ * {@link CompiledDictionary#word(int)} only that one word is read.
+ * <p>
+ * Two machines agree as long as they have the same secret word files.
+ */
+public class DailyPuzzle {
+
+    /** Seed of the daily puzzle, the same for everyone */
+    public static final long DAILY_SEED = 0x5746445950555A4CL;
+
+    /** Day of daily puzzle number 0 */
+    public static final LocalDate FIRST_DAY = LocalDate.of(2022, 1, 1);
+
+    /** Time zone where a new daily puzzle starts at midnight, can be changed with -Dwordfx.daily.zone */
+    public static final ZoneId ZONE = ZoneId.of(System.getProperty("wordfx.daily.zone", "UTC"));
+
+    /** Rounds of the Feistel network, enough for every position to depend on every bit of the key */
+    private static final int ROUNDS = 4;
+
+    /**
+     * Only static methods, no need for objects
+     */
+    private DailyPuzzle() { }
+
+    /**
+     * @return the day of the current daily puzzle
+     */
+    public static LocalDate today() { return LocalDate.now(ZONE); }
+
+    /**
+     * @param day - a day, on or after {@link #FIRST_DAY}
+     * @return number of the daily puzzle of that day
+     */
+    public static long getPuzzleNumber(LocalDate day) { return ChronoUnit.DAYS.between(FIRST_DAY, day); }
+
+    /**
+     * Finds the position of the secret word of a puzzle in a word list
+     *
+     * @param puzzleNumber - number of the puzzle, may be negative
+     * @param size - number of words in the list
+     * @param seed - seed of the puzzles, {@link #DAILY_SEED} for the daily puzzle
+     * @return position of the word between 0 and size - 1
+     */
+    public static int indexOf(long puzzleNumber, int size, long seed) {
+        if (size <= 0) { throw new IllegalArgumentException("Word list is empty"); }
+
+        // Each pass through the list gets its own order
+        long pass = Math.floorDiv(puzzleNumber, size);
+        int position = Math.floorMod(puzzleNumber, size);
+        return permute(position, size, mix(seed + mix(pass)));
+    }
+
+    /**
+     * Permutes the numbers from 0 to size - 1. The Feistel network permutes every
+     * number of 2 * halfBits bits, the smallest such range holding size, and numbers
+     * landing past the end of the list go through it again until they land inside it.
+     * Since the range is less than four times the size, that takes less than four
+     * tries on average.
+     *
+     * @return where the position goes to, between 0 and size - 1
+     */
+    private static int permute(int position, int size, long key) {
+        int halfBits = 1;
+        while ((1L << (2 * halfBits)) < size) { halfBits++; }
+        long mask = (1L << halfBits) - 1;
+
+        long value = position;
+        do {
+            long left = value >>> halfBits;
+            long right = value & mask;
+            for (int round = 0; round < ROUNDS; round++) {
+                long next = left ^ (mix(right ^ key ^ ((long) round << 56)) & mask);
+                left = right;
+                right = next;
+            }
+            value = (left << halfBits) | right;
+        } while (value >= size);
+        return (int) value;
+    }
+
+    /**
+     * Scrambles the bits of a number, the finalizer of SplitMix64. Written here
+     * rather than taken from {@link java.util.Random}, so it can never change.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Prints the daily puzzle of every mode.
+     * Run with: gradle run -PmainClass=main.main.DailyPuzzle
+     *
+     * @param args - not used
+     */
+    public static void main(String[] args) {
+        LocalDate day = today();
+        System.out.println("Daily puzzle #" + getPuzzleNumber(day) + " of " + day + " (" + ZONE + ")");
+        for (int wordLength : ReadWordsFiles.getWordLengths()) {
+            String word = new ReadWordsFiles().createSeededWord(ReadWordsFiles.getSecretWordFile(wordLength),
+                    DAILY_SEED, getPuzzleNumber(day));
+            System.out.println("  " + wordLength + " letters: " + word);
+        }
+    }
+}
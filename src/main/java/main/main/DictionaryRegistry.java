@@ -0,0 +1,255 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 1:05 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: DictionaryRegistry
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Loads each word file once per JVM and hands the same immutable word list,
+ * word set or prefix trie to every game that asks for it afterwards. Restarting a game
+ * (or running many games at once) therefore never touches the disk again.
+ * Hits and misses are counted, so this can be confirmed at runtime.
+ */
+public class DictionaryRegistry {
+
+    /** Secret word lists already loaded, keyed by word file */
+    private static final Map<String, List<String>> SECRET_WORDS = new ConcurrentHashMap<>();
+
+    /** Compiled secret word files already mapped, keyed by word file */
+    private static final Map<String, CompiledDictionary> SECRET_DICTIONARIES = new ConcurrentHashMap<>();
+
+    /** Allowed guess sets already loaded, keyed by word file */
+    private static final Map<String, PackedWordSet> ALLOWED_WORDS = new ConcurrentHashMap<>();
+
+    /** Prefix tries of the allowed guesses already built, keyed by word file */
+    private static final Map<String, PrefixTrie> PREFIX_TRIES = new ConcurrentHashMap<>();
+
+    /** Number of lookups answered from memory */
+    private static final LongAdder HITS = new LongAdder();
+
+    /** Number of lookups that had to load a word file */
+    private static final LongAdder MISSES = new LongAdder();
+
+    /** Preloads already started, keyed by word length */
+    private static final Map<Integer, CompletableFuture<Void>> PRELOADS = new ConcurrentHashMap<>();
+
+    /** Daemon threads loading word files in the background, so they never keep the JVM alive */
+    private static final ExecutorService PRELOADER = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "dictionary-preloader");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Only static methods, no need for objects
+     */
+    private DictionaryRegistry() { }
+
+    /**
+     * @param wordFile - the secret word file
+     * @return immutable list with every word in the file, shared by every caller
+     */
+    public static List<String> getSecretWords(String wordFile) {
+        return lookup(SECRET_WORDS, wordFile, DictionaryRegistry::loadSecretWords);
+    }
+
+    /**
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return immutable list with every possible secret word, shared by every caller
+     */
+    public static List<String> getSecretWords(int wordLength) {
+        return getSecretWords(ReadWordsFiles.getSecretWordFile(wordLength));
+    }
+
+    /**
+     * @param wordFile - the secret word file
+     * @return the compiled file, to read one word by its position without unpacking the others
+     */
+    public static CompiledDictionary getSecretDictionary(String wordFile) {
+        return lookup(SECRET_DICTIONARIES, wordFile, DictionaryRegistry::loadSecretDictionary);
+    }
+
+    /**
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the compiled file of every possible secret word, shared by every caller
+     */
+    public static CompiledDictionary getSecretDictionary(int wordLength) {
+        return getSecretDictionary(ReadWordsFiles.getSecretWordFile(wordLength));
+    }
+
+    /**
+     * @param wordFile - the allowed guess file
+     * @return read-only set with every word in the file, shared by every caller
+     */
+    public static PackedWordSet getAllowedWords(String wordFile) {
+        return lookup(ALLOWED_WORDS, wordFile, DictionaryRegistry::loadAllowedWords);
+    }
+
+    /**
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return read-only set with every allowed guess, shared by every caller
+     */
+    public static PackedWordSet getAllowedWords(int wordLength) {
+        return getAllowedWords(ReadWordsFiles.getAllowedWordFile(wordLength));
+    }
+
+    /**
+     * @param wordFile - the allowed guess file
+     * @return trie with the same words as {@link #getAllowedWords(String)}, shared by every caller
+     */
+    public static PrefixTrie getPrefixTrie(String wordFile) {
+        return lookup(PREFIX_TRIES, wordFile, DictionaryRegistry::loadPrefixTrie);
+    }
+
+    /**
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return trie with every allowed guess, shared by every caller
+     */
+    public static PrefixTrie getPrefixTrie(int wordLength) {
+        return getPrefixTrie(ReadWordsFiles.getAllowedWordFile(wordLength));
+    }
+
+    /**
+     * Starts loading the secret words, allowed guesses and their trie for a word length on
+     * a background thread. Calling it again returns the same future, so a game
+     * can simply wait on it before reading the words.
+     *
+     * @param wordLength - word length user may choose (3 to 12)
+     * @return future completed once both word files are in the registry
+     */
+    public static CompletableFuture<Void> preload(int wordLength) {
+        return PRELOADS.computeIfAbsent(wordLength, length -> CompletableFuture.runAsync(() -> {
+            getSecretWords(length);
+            getAllowedWords(length);
+            getPrefixTrie(length);
+        }, PRELOADER));
+    }
+
+    /**
+     * @return number of lookups answered from memory
+     */
+    public static long getHits() { return HITS.sum(); }
+
+    /**
+     * @return number of lookups that had to load a word file
+     */
+    public static long getMisses() { return MISSES.sum(); }
+
+    /**
+     * @return short summary of the hits and misses, for logging
+     */
+    public static String getStatistics() {
+        return "Dictionary registry: " + getHits() + " hits, " + getMisses() + " misses";
+    }
+
+    /**
+     * Returns the cached value for a word file, loading it only if no one has yet
+     */
+    private static <T> T lookup(Map<String, T> cache, String wordFile, Function<String, T> loader) {
+        T words = cache.get(wordFile);
+        if (words != null) {
+            HITS.increment();
+            return words;
+        }
+        return cache.computeIfAbsent(wordFile, file -> {
+            MISSES.increment();
+            return loader.apply(file);
+        });
+    }
+
+    /**
+     * Unpacks every word of a secret word file into a list
+     */
+    private static List<String> loadSecretWords(String wordFile) {
+        return List.copyOf(getSecretDictionary(wordFile).words());
+    }
+
+    /**
+     * Loads the compiled form of a secret word file, only scanning the text file if that fails
+     */
+    private static CompiledDictionary loadSecretDictionary(String wordFile) {
+        try {
+            return CompiledDictionary.load(wordFile);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return CompiledDictionary.of(ReadWordsFiles.readWords(wordFile));
+        }
+    }
+
+    /**
+     * Loads an allowed guess file into a read-only set
+     */
+    private static PackedWordSet loadAllowedWords(String wordFile) {
+        PackedWordSet words = new PackedWordSet();
+        for (long packed : loadAllowedPackedWords(wordFile)) {
+            words.addPacked(packed);
+        }
+        words.freeze();
+        return words;
+    }
+
+    /**
+     * Builds the prefix trie of an allowed guess file from its shared set, so the
+     * file is only mapped and merged with the secret words once
+     */
+    private static PrefixTrie loadPrefixTrie(String wordFile) {
+        long[] packedWords = getAllowedWords(wordFile).toPackedArray();
+        int wordLength = packedWords.length == 0 ? 0 : PackedWordSet.unpack(packedWords[0]).length();
+        return new PrefixTrie(packedWords, wordLength);
+    }
+
+    /**
+     * Loads the compiled form of an allowed guess file, only scanning the text file if that fails.
+     * For the game's own files, the secret words of the same mode are allowed too, since a few
+     * of them are missing from the allowed guess files and could otherwise never be guessed.
+     *
+     * @return every allowed guess, packed, maybe with some repeated
+     */
+    private static long[] loadAllowedPackedWords(String wordFile) {
+        long[] packedWords;
+        try {
+            CompiledDictionary dictionary = CompiledDictionary.load(wordFile);
+            packedWords = new long[dictionary.size()];
+            for (int i = 0; i < packedWords.length; i++) { packedWords[i] = dictionary.packedWord(i); }
+        } catch (IOException e) {
+            e.printStackTrace();
+            packedWords = ReadWordsFiles.readWords(wordFile).stream().mapToLong(PackedWordSet::pack).filter(packed -> packed != -1).toArray();
+        }
+        for (int wordLength : ReadWordsFiles.getWordLengths()) {
+            if (wordFile.equals(ReadWordsFiles.getAllowedWordFile(wordLength))) {
+                List<String> secretWords = getSecretWords(wordLength);
+                int allowedCount = packedWords.length;
+                packedWords = Arrays.copyOf(packedWords, allowedCount + secretWords.size());
+                for (int i = 0; i < secretWords.size(); i++) {
+                    packedWords[allowedCount + i] = PackedWordSet.pack(secretWords.get(i));
+                }
+            }
+        }
+        return packedWords;
+    }
+}
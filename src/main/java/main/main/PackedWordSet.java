@@ -0,0 +1,225 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 10:02 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: PackedWordSet
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import main.model.Feedback;
+
+/**
+ * Set of words where each word is packed into a long, 5 bits per letter,
+ * and stored in an open addressing hash table of primitive longs. Checking
+ * if a word is in the set takes constant time and allocates nothing.
+ */
+public class PackedWordSet {
+
+    /** Bits used by each letter of a packed word */
+    public static final int BITS_PER_LETTER = 5;
+
+    /** Longest word that fits in a long, 5 bits per letter */
+    public static final int MAX_WORD_LENGTH = 12;
+
+    /** Value of a free slot. No word packs to 0, since letters are packed as 1 to 26 */
+    private static final long EMPTY = 0;
+
+    /** Value of words that can't be packed (too long, or not made of letters only) */
+    private static final long INVALID = -1;
+
+    /** The hash table, its length is always a power of 2 */
+    private long[] slots;
+
+    /** Number of words in the set */
+    private int size;
+
+    /** True once the set is read-only, and so safe to share between threads */
+    private boolean frozen;
+
+    /**
+     * Creates an empty set
+     */
+    public PackedWordSet() {
+        this.slots = new long[16];
+        this.size = 0;
+    }
+
+    /**
+     * Packs a word into a long, 5 bits per letter, first letter in the lowest bits.
+     * Upper and lowercase letters pack to the same value.
+     *
+     * @param word - the word to be packed
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return the packed word, or -1 if it is too long or not made of letters only
+     */
+    public static long pack(char[] word, int off, int len) {
+        if (len <= 0 || len > MAX_WORD_LENGTH) { return INVALID; }
+
+        long packed = 0;
+        for (int i = 0; i < len; i++) {
+            int letter = (word[off + i] | 0x20) - 'a';
+            if (letter < 0 || letter >= Feedback.ALPHABET_SIZE) { return INVALID; }
+            packed |= (long) (letter + 1) << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Packs a word into a long, 5 bits per letter, first letter in the lowest bits
+     *
+     * @param word - the word to be packed
+     * @return the packed word, or -1 if it is too long or not made of letters only
+     */
+    public static long pack(CharSequence word) {
+        int len = word.length();
+        if (len == 0 || len > MAX_WORD_LENGTH) { return INVALID; }
+
+        long packed = 0;
+        for (int i = 0; i < len; i++) {
+            int letter = (word.charAt(i) | 0x20) - 'a';
+            if (letter < 0 || letter >= Feedback.ALPHABET_SIZE) { return INVALID; }
+            packed |= (long) (letter + 1) << (i * BITS_PER_LETTER);
+        }
+        return packed;
+    }
+
+    /**
+     * Unpacks a word packed with {@link #pack(CharSequence)}
+     *
+     * @param packed - the packed word
+     * @return the word in lowercase
+     */
+    public static String unpack(long packed) {
+        char[] word = new char[MAX_WORD_LENGTH];
+        int len = 0;
+        for (; packed != 0; packed >>>= BITS_PER_LETTER) {
+            word[len++] = (char) ('a' + (packed & 0x1F) - 1);
+        }
+        return new String(word, 0, len);
+    }
+
+    /**
+     * Adds a word to the set. Words that can't be packed are ignored.
+     *
+     * @param word - the word to be added
+     * @return true if the word was added, false if it was already there or can't be packed
+     */
+    public boolean add(CharSequence word) { return addPacked(pack(word)); }
+
+    /**
+     * Adds a word that is already packed to the set
+     *
+     * @param packed - a word packed with {@link #pack(CharSequence)}
+     * @return true if the word was added, false if it was already there or is not a packed word
+     */
+    public boolean addPacked(long packed) {
+        if (frozen) { throw new UnsupportedOperationException("Set is read-only"); }
+        if (packed == INVALID || packed == EMPTY) { return false; }
+
+        // Keep the table at most half full so probing stays short
+        if ((size + 1) * 2 > slots.length) { resize(slots.length * 2); }
+        if (!insert(slots, packed)) { return false; }
+        size++;
+        return true;
+    }
+
+    /**
+     * @param word - the word to look for, in upper or lowercase
+     * @return true if the word is in the set
+     */
+    public boolean contains(CharSequence word) { return containsPacked(pack(word)); }
+
+    /**
+     * @param word - buffer holding the word to look for, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the word is in the set
+     */
+    public boolean contains(char[] word, int off, int len) { return containsPacked(pack(word, off, len)); }
+
+    /**
+     * @param packed - a word packed with {@link #pack(CharSequence)}
+     * @return true if the word is in the set
+     */
+    public boolean containsPacked(long packed) {
+        if (packed == INVALID || packed == EMPTY) { return false; }
+
+        int mask = slots.length - 1;
+        for (int slot = hash(packed) & mask; slots[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (slots[slot] == packed) { return true; }
+        }
+        return false;
+    }
+
+    /**
+     * Makes the set read-only. Adding a word afterwards throws an
+     * {@link UnsupportedOperationException}.
+     */
+    public void freeze() { this.frozen = true; }
+
+    /**
+     * @return number of words in the set
+     */
+    public int size() { return size; }
+
+    /**
+     * @return every word of the set, packed, in no particular order
+     */
+    public long[] toPackedArray() {
+        long[] words = new long[size];
+        int count = 0;
+        for (long packed : slots) {
+            if (packed != EMPTY) { words[count++] = packed; }
+        }
+        return words;
+    }
+
+    /**
+     * Inserts a packed word using linear probing
+     *
+     * @return true if inserted, false if it was already in the table
+     */
+    private static boolean insert(long[] table, long packed) {
+        int mask = table.length - 1;
+        int slot = hash(packed) & mask;
+        while (table[slot] != EMPTY) {
+            if (table[slot] == packed) { return false; }
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = packed;
+        return true;
+    }
+
+    /**
+     * Moves every word into a bigger table
+     *
+     * @param capacity - new number of slots, a power of 2
+     */
+    private void resize(int capacity) {
+        long[] bigger = new long[capacity];
+        for (long packed : slots) {
+            if (packed != EMPTY) { insert(bigger, packed); }
+        }
+        slots = bigger;
+    }
+
+    /**
+     * @return a well spread hash of the packed word, the high bits of a multiplicative hash
+     */
+    private static int hash(long packed) {
+        return (int) ((packed * 0x9E3779B97F4A7C15L) >>> 32);
+    }
+}
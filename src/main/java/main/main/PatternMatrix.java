@@ -0,0 +1,260 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 9:10 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: PatternMatrix
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import main.model.Feedback;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+/**
+ * Table with the feedback pattern of every allowed guess (plus any secret word
+ * missing from the allowed guess file) against every possible secret word,
+ * one byte per pair up to 5 letters, where every pattern fits in a byte, and
+ * two or four bytes for longer words. The table is computed once in
+ * parallel and saved to a cache file, which is memory mapped on later runs
+ * so a lookup is a single index into the mapped file. The cache file keeps a
+ * checksum of both word files and is rebuilt whenever one of them changes.
+ */
+public class PatternMatrix {
+
+    /** Identifies a pattern matrix cache file ("WFPM") */
+    private static final int MAGIC = 0x5746504D;
+
+    /** Version of the cache file layout, bump it whenever the layout changes */
+    private static final int VERSION = 1;
+
+    /** Bytes before the table: magic, version, word length, guess count, secret count and checksum */
+    private static final int HEADER_SIZE = 4 * 5 + 8;
+
+    /** Length of the words in the matrix */
+    private final int wordLength;
+
+    /** All allowed guesses, the rows of the matrix */
+    private final List<String> guesses;
+
+    /** All possible secret words, the columns of the matrix */
+    private final List<String> secrets;
+
+    /** Index of each allowed guess in the guess list */
+    private final Map<String, Integer> guessIndices;
+
+    /** Bytes used by each pattern of the table */
+    private final int patternSize;
+
+    /** The table itself, starting at HEADER_SIZE and laid out row by row */
+    private final ByteBuffer table;
+
+    /**
+     * Private constructor, matrices are created through {@link #load(int)}
+     *
+     * @param wordLength - length of the words in the matrix
+     * @param guesses - all allowed guesses
+     * @param secrets - all possible secret words
+     * @param table - header followed by the pattern of every guess against every secret
+     */
+    private PatternMatrix(int wordLength, List<String> guesses, List<String> secrets, ByteBuffer table) {
+        this.wordLength = wordLength;
+        this.guesses = guesses;
+        this.secrets = secrets;
+        this.table = table;
+        this.patternSize = patternSize(wordLength);
+        this.guessIndices = new HashMap<>();
+        for (int i = 0; i < guesses.size(); i++) { guessIndices.put(guesses.get(i), i); }
+    }
+
+    /**
+     * @param wordLength - length of the words in the matrix
+     * @return bytes needed to store any feedback pattern of words of that length
+     */
+    static int patternSize(int wordLength) {
+        int patternCount = Feedback.patternCount(wordLength);
+        return patternCount <= 1 << Byte.SIZE ? Byte.BYTES : patternCount <= 1 << Short.SIZE ? Short.BYTES : Integer.BYTES;
+    }
+
+    /**
+     * Loads the pattern matrix for the word files the game uses for the given
+     * word length, building the cache file first if needed
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the pattern matrix for that word length
+     * @throws IOException if the word files can't be read
+     */
+    public static PatternMatrix load(int wordLength) throws IOException {
+        return load(ReadWordsFiles.getAllowedWordFile(wordLength), ReadWordsFiles.getSecretWordFile(wordLength),
+                wordLength, Paths.get(ReadWordsFiles.CACHE_DIRECTORY, "patterns" + wordLength + ".bin"));
+    }
+
+    /**
+     * Loads the pattern matrix of the given word files. If the cache file exists and
+     * was built from the same word files it is memory mapped, otherwise the matrix is
+     * computed and the cache file is (re)written.
+     *
+     * @param guessFile - file with all allowed guesses
+     * @param secretFile - file with all possible secret words
+     * @param wordLength - length of the words in both files
+     * @param cacheFile - where the matrix is cached
+     * @return the pattern matrix of the word files
+     * @throws IOException if the word files can't be read
+     */
+    public static PatternMatrix load(String guessFile, String secretFile, int wordLength, Path cacheFile) throws IOException {
+        List<String> secrets = ReadWordsFiles.readWords(secretFile);
+        List<String> guesses = ReadWordsFiles.readGuesses(guessFile, secrets);
+
+        long checksum = checksum(guessFile, secretFile);
+
+        ByteBuffer table = mapCacheFile(cacheFile, wordLength, guesses.size(), secrets.size(), checksum);
+        if (table == null) {
+            table = ByteBuffer.wrap(computeTable(guesses, secrets, wordLength, checksum));
+            writeCacheFile(cacheFile, table);
+        }
+        return new PatternMatrix(wordLength, guesses, secrets, table);
+    }
+
+    /**
+     * Computes the header and the pattern of every guess against every secret.
+     * Rows are split across all cores, each row being written by a single thread.
+     *
+     * @return the contents of a cache file
+     */
+    private static byte[] computeTable(List<String> guesses, List<String> secrets, int wordLength, long checksum) {
+        byte[][] secretLetters = new byte[secrets.size()][];
+        for (int s = 0; s < secretLetters.length; s++) { secretLetters[s] = Feedback.toLetters(secrets.get(s)); }
+
+        int secretCount = secrets.size();
+        int patternSize = patternSize(wordLength);
+        long tableSize = HEADER_SIZE + (long) guesses.size() * secretCount * patternSize;
+        if (tableSize > Integer.MAX_VALUE) { throw new IllegalArgumentException("Too many words for a pattern matrix"); }
+
+        byte[] contents = new byte[(int) tableSize];
+        ByteBuffer buffer = ByteBuffer.wrap(contents);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(wordLength)
+                .putInt(guesses.size()).putInt(secretCount).putLong(checksum);
+
+        IntStream.range(0, guesses.size()).parallel().forEach(g -> {
+            byte[] guess = Feedback.toLetters(guesses.get(g));
+            int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+            int rowStart = HEADER_SIZE + g * secretCount * patternSize;
+            for (int s = 0; s < secretCount; s++) {
+                int pattern = Feedback.evaluate(secretLetters[s], guess, wordLength, letterCounts);
+                int offset = rowStart + s * patternSize;
+                if (patternSize == Byte.BYTES) { contents[offset] = (byte) pattern; }
+                else if (patternSize == Short.BYTES) { buffer.putShort(offset, (short) pattern); }
+                else { buffer.putInt(offset, pattern); }
+            }
+        });
+        return contents;
+    }
+
+    /**
+     * Memory maps the cache file if it exists and matches the word files
+     *
+     * @return the mapped cache file, or null if it has to be rebuilt
+     */
+    private static ByteBuffer mapCacheFile(Path cacheFile, int wordLength, int guessCount, int secretCount, long checksum) {
+        if (!Files.isRegularFile(cacheFile)) { return null; }
+
+        try (FileChannel channel = FileChannel.open(cacheFile, StandardOpenOption.READ)) {
+            if (channel.size() != HEADER_SIZE + (long) guessCount * secretCount * patternSize(wordLength)) { return null; }
+
+            ByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            boolean upToDate = mapped.getInt(0) == MAGIC && mapped.getInt(4) == VERSION
+                    && mapped.getInt(8) == wordLength && mapped.getInt(12) == guessCount
+                    && mapped.getInt(16) == secretCount && mapped.getLong(20) == checksum;
+            return upToDate ? mapped : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Writes the cache file through a temporary file, so a half written cache
+     * file is never seen by another run. Failing to write is not fatal, the
+     * matrix is simply kept in memory.
+     */
+    private static void writeCacheFile(Path cacheFile, ByteBuffer contents) {
+        try {
+            Path directory = cacheFile.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+            Files.write(temporary, contents.array());
+            Files.move(temporary, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Could not write pattern cache " + cacheFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * @return checksum of the contents of both word files
+     * @throws IOException if the word files can't be read
+     */
+    private static long checksum(String guessFile, String secretFile) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(Paths.get(guessFile)));
+        crc.update(Files.readAllBytes(Paths.get(secretFile)));
+        return crc.getValue();
+    }
+
+    /**
+     * @param guessIndex - index of the guess in {@link #getGuesses()}
+     * @param secretIndex - index of the secret in {@link #getSecrets()}
+     * @return the feedback pattern, packed as in {@link Feedback#evaluate(byte[], byte[], int, int[])}
+     */
+    public int pattern(int guessIndex, int secretIndex) {
+        int cell = guessIndex * secrets.size() + secretIndex;
+        if (patternSize == Byte.BYTES) { return table.get(HEADER_SIZE + cell) & 0xFF; }
+        if (patternSize == Short.BYTES) { return table.getShort(HEADER_SIZE + cell * Short.BYTES) & 0xFFFF; }
+        return table.getInt(HEADER_SIZE + cell * Integer.BYTES);
+    }
+
+    /**
+     * @param guess - an allowed guess
+     * @return index of the guess in {@link #getGuesses()}, or -1 if it isn't allowed
+     */
+    public int indexOfGuess(String guess) {
+        Integer index = guessIndices.get(guess);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @return length of the words in the matrix
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return all allowed guesses, the rows of the matrix
+     */
+    public List<String> getGuesses() { return guesses; }
+
+    /**
+     * @return all possible secret words, the columns of the matrix
+     */
+    public List<String> getSecrets() { return secrets; }
+}
@@ -0,0 +1,182 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 10:15 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: PrefixTrie
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import main.model.Feedback;
+
+import java.util.Arrays;
+
+/**
+ * Read-only trie of words of the same length, to tell while a guess is being
+ * typed whether any allowed word starts with it. Each node is two ints: a
+ * 26-bit mask of the letters it has children for, and the index of its first
+ * child. Children are stored next to each other in letter order, so the child
+ * for a letter is found by counting the bits of the mask below that letter.
+ * Following a letter is a few array reads and allocates nothing.
+ */
+public class PrefixTrie {
+
+    /** Node of the empty prefix */
+    public static final int ROOT = 0;
+
+    /** Returned when no word starts with the prefix */
+    public static final int NONE = -1;
+
+    /** Letters each node has children for, bit i set for letter 'a' + i */
+    private final int[] childMasks;
+
+    /** Index of the first child of each node */
+    private final int[] firstChildren;
+
+    /** Length of the words in the trie */
+    private final int wordLength;
+
+    /** Number of words in the trie */
+    private final int size;
+
+    /**
+     * Builds the trie of some words, all of the same length
+     *
+     * @param packedWords - the words, packed with {@link PackedWordSet#pack(CharSequence)}
+     * @param wordLength - length of every word
+     */
+    public PrefixTrie(long[] packedWords, int wordLength) {
+        this.wordLength = wordLength;
+
+        // Reverse the letters, so sorting the keys sorts the words alphabetically
+        long[] keys = new long[packedWords.length];
+        for (int w = 0; w < keys.length; w++) {
+            long key = 0;
+            for (int i = 0; i < wordLength; i++) {
+                key = (key << PackedWordSet.BITS_PER_LETTER) | ((packedWords[w] >>> (i * PackedWordSet.BITS_PER_LETTER)) & 0x1F);
+            }
+            keys[w] = key;
+        }
+        Arrays.sort(keys);
+        keys = Arrays.stream(keys).distinct().toArray();
+        this.size = keys.length;
+
+        // The nodes at each depth are the different prefixes of that length, in alphabetical order
+        int[] levelStarts = new int[wordLength + 2];
+        levelStarts[1] = 1;
+        for (int depth = 1; depth <= wordLength; depth++) {
+            levelStarts[depth + 1] = levelStarts[depth] + countPrefixes(keys, depth);
+        }
+        this.childMasks = new int[levelStarts[wordLength + 1]];
+        this.firstChildren = new int[childMasks.length];
+
+        for (int depth = 0; depth < wordLength; depth++) {
+            int parent = levelStarts[depth] - 1;
+            int child = levelStarts[depth + 1] - 1;
+            long lastParent = -1;
+            long lastChild = -1;
+            for (long key : keys) {
+                long parentPrefix = prefix(key, depth);
+                long childPrefix = prefix(key, depth + 1);
+                if (parentPrefix != lastParent) {
+                    parent++;
+                    lastParent = parentPrefix;
+                    firstChildren[parent] = child + 1;
+                }
+                if (childPrefix != lastChild) {
+                    child++;
+                    lastChild = childPrefix;
+                    childMasks[parent] |= 1 << ((childPrefix & 0x1F) - 1);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the first letters of a key, where the first letter is in the highest bits
+     */
+    private long prefix(long key, int length) {
+        return length == 0 ? 0 : key >>> ((wordLength - length) * PackedWordSet.BITS_PER_LETTER);
+    }
+
+    /**
+     * @return number of different prefixes of a length among sorted keys
+     */
+    private int countPrefixes(long[] keys, int length) {
+        int count = 0;
+        long last = -1;
+        for (long key : keys) {
+            long prefix = prefix(key, length);
+            if (prefix != last) {
+                count++;
+                last = prefix;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Follows a letter from a node
+     *
+     * @param node - node of a prefix, {@link #ROOT} for the empty prefix
+     * @param letter - the next letter, in upper or lowercase
+     * @return node of the longer prefix, or {@link #NONE} if no word starts with it
+     */
+    public int child(int node, char letter) {
+        int index = (letter | 0x20) - 'a';
+        if (node < 0 || index < 0 || index >= Feedback.ALPHABET_SIZE) { return NONE; }
+
+        int mask = childMasks[node];
+        int bit = 1 << index;
+        if ((mask & bit) == 0) { return NONE; }
+        return firstChildren[node] + Integer.bitCount(mask & (bit - 1));
+    }
+
+    /**
+     * @param letters - buffer holding the prefix, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if at least one word starts with the prefix
+     */
+    public boolean hasPrefix(char[] letters, int off, int len) {
+        int node = ROOT;
+        for (int i = 0; i < len && node != NONE; i++) { node = child(node, letters[off + i]); }
+        return node != NONE;
+    }
+
+    /**
+     * @param letters - buffer holding the word, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the word is in the trie
+     */
+    public boolean contains(char[] letters, int off, int len) {
+        return len == wordLength && hasPrefix(letters, off, len);
+    }
+
+    /**
+     * @return number of nodes, the root included
+     */
+    public int nodeCount() { return childMasks.length; }
+
+    /**
+     * @return length of the words in the trie
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return number of words in the trie
+     */
+    public int size() { return size; }
+}
@@ -20,9 +20,18 @@ package main.main;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Scanner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 /**
  * This class takes care of reading the words.txt files and
@@ -31,38 +40,52 @@ import java.util.Scanner;
  */
 public class ReadWordsFiles {
 
-    /** The set of all possible secret words */
-    private ArrayList<String> secretWordSet = new ArrayList<>();
+    /** Directory where files generated from the word files are kept, can be changed with -Dwordfx.cache.dir */
+    static final String CACHE_DIRECTORY = System.getProperty("wordfx.cache.dir", "build/cache");
 
-    /** The set of all possible guesses */
-    private ArrayList<String> guessSet = new ArrayList<>();
+    /** Directory containing the secret word and allowed guess files */
+    private static final String WORD_FILES_DIRECTORY = "src/main/resources/text-files/";
+
+    /** Shortest word length a game can have */
+    public static final int MIN_WORD_LENGTH = 3;
+
+    /** Name of the secret word files, after the word length ("5words.txt") */
+    private static final Pattern SECRET_WORD_FILE = Pattern.compile("(\\d+)words\\.txt");
+
+    /** Word lengths with both word files, found the first time they are needed */
+    private static int[] wordLengths;
+
+    /** The set of all possible guesses, shared with every other game */
+    private PackedWordSet guessSet = new PackedWordSet();
+
+    /** Trie of all possible guesses, to check them while they are typed */
+    private PrefixTrie prefixTrie = new PrefixTrie(new long[0], 0);
 
     /**
-     * Reads in the file and creates a set of secret words (only, not the guess)
-     * word from that set to be the secret word, then gets a random word from
-     * the set.
+     * Picks a random secret word from a word file. The file is compiled and mapped
+     * by the first game, and every game after that reads only the one word it picked,
+     * so starting a game takes the same time however long the list is.
      *
-     * @param wordFile - the 3, 4, or 5-letter word file
+     * @param wordFile - the word file
      * @return - the secret word
      */
     public String createRandomWord(String wordFile) {
-        File file = new File(wordFile);
-        // Scan through file and create a set of all words
-        Scanner scnr = null;
-        try {
-            scnr = new Scanner(file);
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-        }
-        while (scnr.hasNext()) {
-            secretWordSet.add(scnr.next());
-        }
-        // Find a random word in the list at index randInt
-        // and assign to secret word
-        Random rand = new Random();
-        int randInt = rand.nextInt((secretWordSet.size()));
+        CompiledDictionary secretWords = DictionaryRegistry.getSecretDictionary(wordFile);
+        return secretWords.word(ThreadLocalRandom.current().nextInt(secretWords.size()));
+    }
 
-        return secretWordSet.get(randInt);
+    /**
+     * Picks the secret word of a daily or seeded puzzle from a word file, the
+     * same one on every machine
+     *
+     * @param wordFile - the word file
+     * @param seed - seed of the puzzles, {@link DailyPuzzle#DAILY_SEED} for the daily puzzle
+     * @param puzzleNumber - number of the puzzle, like {@link DailyPuzzle#getPuzzleNumber}
+     * @return - the secret word
+     */
+    public String createSeededWord(String wordFile, long seed, long puzzleNumber) {
+        CompiledDictionary secretWords = DictionaryRegistry.getSecretDictionary(wordFile);
+        return secretWords.word(DailyPuzzle.indexOf(puzzleNumber, secretWords.size(), seed));
     }
 
     /**
@@ -70,6 +93,83 @@ public class ReadWordsFiles {
      * @param wordFile
      */
     public void createWordSet(String wordFile) {
+        // The file is only read by the first game, every other game reuses its words
+        guessSet = DictionaryRegistry.getAllowedWords(wordFile);
+        prefixTrie = DictionaryRegistry.getPrefixTrie(wordFile);
+    }
+
+    /**
+     * Reads every allowed guess of a word file, followed by the secret words missing
+     * from it, since every secret word can be guessed
+     *
+     * @param wordFile - the allowed guess file
+     * @param secretWords - every possible secret word of the same mode
+     * @return - list with all guesses, in the order of the file first
+     */
+    public static ArrayList<String> readGuesses(String wordFile, List<String> secretWords) {
+        ArrayList<String> guesses = readWords(wordFile);
+        HashSet<String> allowed = new HashSet<>(guesses);
+        for (String secretWord : secretWords) {
+            if (allowed.add(secretWord)) { guesses.add(secretWord); }
+        }
+        return guesses;
+    }
+
+    /**
+     * @param wordLength - word length user has chosen, one of {@link #getWordLengths()}
+     * @return path of the file with all possible secret words for the word length
+     */
+    public static String getSecretWordFile(int wordLength) {
+        return WORD_FILES_DIRECTORY + wordLength + "words.txt";
+    }
+
+    /**
+     * @param wordLength - word length user has chosen, one of {@link #getWordLengths()}
+     * @return path of the file with all allowed guesses for the word length
+     */
+    public static String getAllowedWordFile(int wordLength) {
+        return WORD_FILES_DIRECTORY + "allowed" + wordLength + "words.txt";
+    }
+
+    /**
+     * @return every word length a game can be played with, in increasing order
+     */
+    public static synchronized int[] getWordLengths() {
+        if (wordLengths == null) { wordLengths = findWordLengths(Paths.get(WORD_FILES_DIRECTORY)); }
+        return wordLengths.clone();
+    }
+
+    /**
+     * Finds the word lengths that have both a secret word file and an allowed
+     * guess file in a directory, so a new mode is added by adding its two files
+     *
+     * @param directory - directory with the word files
+     * @return every word length from {@link #MIN_WORD_LENGTH} to {@link PackedWordSet#MAX_WORD_LENGTH}
+     * with both word files, in increasing order
+     */
+    public static int[] findWordLengths(Path directory) {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> SECRET_WORD_FILE.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(name -> Integer.parseInt(name.group(1)))
+                    .filter(length -> length >= MIN_WORD_LENGTH && length <= PackedWordSet.MAX_WORD_LENGTH)
+                    .filter(length -> Files.isRegularFile(directory.resolve("allowed" + length + "words.txt")))
+                    .sorted()
+                    .toArray();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return new int[0];
+        }
+    }
+
+    /**
+     * Reads every word of a word file, in the order they appear
+     *
+     * @param wordFile - the word file
+     * @return - list with all words in the file
+     */
+    public static ArrayList<String> readWords(String wordFile) {
+        ArrayList<String> words = new ArrayList<>();
         File file = new File(wordFile);
         // Scan through file and create a set of all words
         Scanner scnr = null;
@@ -79,8 +179,10 @@ public class ReadWordsFiles {
             e.printStackTrace();
         }
         while (scnr.hasNext()) {
-            guessSet.add(scnr.next());
+            words.add(scnr.next());
         }
+        scnr.close();
+        return words;
     }
 
     /**
@@ -89,4 +191,20 @@ public class ReadWordsFiles {
      * @return - boolean, whether guess is in word set
      */
     public boolean isWordInSet(String guess) { return guessSet.contains(guess); }
+
+    /**
+     * Checks that the user guess is a valid word from the set, without
+     * building a String first. Letters may be upper or lowercase.
+     *
+     * @param guess - buffer holding the user guess
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return - boolean, whether guess is in word set
+     */
+    public boolean isWordInSet(char[] guess, int off, int len) { return guessSet.contains(guess, off, len); }
+
+    /**
+     * @return trie of all possible guesses, to check a guess letter by letter while it is typed
+     */
+    public PrefixTrie getPrefixTrie() { return prefixTrie; }
 }
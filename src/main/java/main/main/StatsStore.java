@@ -0,0 +1,352 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 1:05 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.main
+ * Class: StatsStore
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.main;
+
+import main.model.GameState;
+import main.model.PlayerStats;
+import main.model.WordleGame;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.zip.CRC32;
+
+/**
+ * Keeps the statistics of the player across runs of the game. Every finished
+ * game is appended to a binary log as a fixed size record: word length, secret,
+ * every guess packed as in {@link PackedWordSet}, win or loss, and duration.
+ * Once the log has enough records, they are folded into a snapshot of the
+ * {@link PlayerStats} counters and the log starts over, so opening the store only
+ * reads the snapshot and a short log, however many games were played.
+ * <p>
+ * The snapshot and the log both carry a generation number. Compaction writes
+ * the snapshot of the next generation first and only then replaces the log, so
+ * if it is interrupted in between, the old log is recognized and not counted twice.
+ * A record cut short by a crash is detected by its checksum and dropped.
+ * Files are read in the background as soon as the store is created.
+ */
+public class StatsStore {
+
+    /** Directory the statistics are kept in, can be changed with -Dwordfx.stats.dir */
+    static final String STATS_DIRECTORY = System.getProperty("wordfx.stats.dir",
+            Paths.get(System.getProperty("user.home"), ".wordfx").toString());
+
+    /** Records in the log before it is compacted into the snapshot */
+    public static final int DEFAULT_COMPACT_EVERY = 1024;
+
+    /** Identifies a log file ("WFSL") */
+    private static final int LOG_MAGIC = 0x5746534C;
+
+    /** Identifies a snapshot file ("WFSS") */
+    private static final int SNAPSHOT_MAGIC = 0x57465353;
+
+    /** Version of the file layouts, bump it whenever a layout changes */
+    private static final int VERSION = 1;
+
+    /** Bytes before the records or counters: magic, version and generation */
+    private static final int HEADER_SIZE = 4 * 2 + 8;
+
+    /**
+     * Bytes of a log record: secret, finish time, duration, word length, number of
+     * guesses, won, one spare byte, the guesses, four spare bytes and the checksum
+     */
+    static final int RECORD_SIZE = 8 + 8 + 4 + 4 + 8 * WordleGame.MAX_GUESSES + 4 + 4;
+
+    /** Bytes of a record covered by its checksum, everything but the checksum */
+    private static final int CHECKED_SIZE = RECORD_SIZE - 4;
+
+    /** Bytes of the snapshot file: header, counters and their checksum */
+    private static final int SNAPSHOT_SIZE = HEADER_SIZE + PlayerStats.BYTES + 8;
+
+    /** The log of games not in the snapshot yet */
+    private final Path logPath;
+
+    /** The snapshot of every game before the log */
+    private final Path snapshotPath;
+
+    /** Records in the log before it is compacted */
+    private final int compactEvery;
+
+    /** Statistics once the files are read */
+    private final CompletableFuture<PlayerStats> loaded;
+
+    /** Buffer a record is written from, reused for every record */
+    private final ByteBuffer record;
+
+    /** Log channel appended to, open once the files are read */
+    private FileChannel log;
+
+    /** Generation of the snapshot and of the log being appended to */
+    private long generation;
+
+    /** Number of records in the log */
+    private int logRecords;
+
+    /** The shared store in the default directory, created the first time it is needed */
+    private static StatsStore defaultStore;
+
+    /**
+     * Creates a store in a directory, and starts reading its files in the background
+     *
+     * @param directory - directory the log and snapshot are kept in
+     * @param compactEvery - records in the log before it is compacted into the snapshot
+     */
+    public StatsStore(Path directory, int compactEvery) {
+        this.logPath = directory.resolve("stats.log");
+        this.snapshotPath = directory.resolve("stats.snapshot");
+        this.compactEvery = compactEvery;
+        this.record = ByteBuffer.allocate(RECORD_SIZE);
+        this.loaded = CompletableFuture.supplyAsync(() -> {
+            try {
+                return load();
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * @return the store in the default directory, reading its files in the background the first time
+     */
+    public static synchronized StatsStore getDefault() {
+        if (defaultStore == null) { defaultStore = new StatsStore(Paths.get(STATS_DIRECTORY), DEFAULT_COMPACT_EVERY); }
+        return defaultStore;
+    }
+
+    /**
+     * Reads the snapshot and adds every record of the log to it. A log from an
+     * older generation was already folded into the snapshot and starts over, and
+     * a log ending with a damaged record is cut before it.
+     *
+     * @return the statistics of every game recorded
+     */
+    private PlayerStats load() throws IOException {
+        Files.createDirectories(logPath.toAbsolutePath().getParent());
+        PlayerStats stats = readSnapshot();
+        if (stats == null) {
+            stats = new PlayerStats();
+            generation = 0;
+        }
+
+        log = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer contents = ByteBuffer.allocate((int) Math.min(log.size(), Integer.MAX_VALUE));
+        while (contents.hasRemaining() && log.read(contents) >= 0) { }
+        contents.flip();
+
+        if (contents.remaining() < HEADER_SIZE || contents.getInt(0) != LOG_MAGIC || contents.getInt(4) != VERSION
+                || contents.getLong(8) < generation) {
+            startLog(generation);
+            return stats;
+        }
+
+        generation = contents.getLong(8);
+        long end = HEADER_SIZE;
+        for (; end + RECORD_SIZE <= contents.limit(); end += RECORD_SIZE) {
+            ByteBuffer entry = contents.slice((int) end, RECORD_SIZE);
+            if (entry.getInt(CHECKED_SIZE) != checksum(entry)) { break; }
+            stats.record(entry.get(20), entry.get(21), entry.get(22) != 0, entry.getInt(16));
+            logRecords++;
+        }
+        log.truncate(end);
+        log.position(end);
+        return stats;
+    }
+
+    /**
+     * @return counters of the snapshot, or null if there is no intact snapshot
+     */
+    private PlayerStats readSnapshot() throws IOException {
+        if (!Files.isRegularFile(snapshotPath) || Files.size(snapshotPath) != SNAPSHOT_SIZE) { return null; }
+
+        ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(snapshotPath));
+        if (contents.getInt(0) != SNAPSHOT_MAGIC || contents.getInt(4) != VERSION) { return null; }
+
+        CRC32 crc = new CRC32();
+        crc.update(contents.slice(HEADER_SIZE, PlayerStats.BYTES));
+        if (contents.getLong(HEADER_SIZE + PlayerStats.BYTES) != crc.getValue()) { return null; }
+
+        generation = contents.getLong(8);
+        return PlayerStats.read(contents.position(HEADER_SIZE));
+    }
+
+    /**
+     * Records a game that just finished
+     *
+     * @param game - a game that is over
+     * @throws IOException if the log can't be written
+     */
+    public void record(WordleGame game) throws IOException {
+        if (game.getGameState().isPlayable()) { throw new IllegalArgumentException("Game is not over"); }
+
+        long[] guesses = new long[game.getCurrentGuessNumber()];
+        for (int row = 0; row < guesses.length; row++) { guesses[row] = PackedWordSet.pack(game.getGuess(row)); }
+        record(game.getWordLength(), PackedWordSet.pack(game.getSecretWord()), guesses,
+                game.getGameState() == GameState.GAME_WINNER, game.getElapsedMillis());
+    }
+
+    /**
+     * Appends a finished game to the log, and compacts the log once it has enough records
+     *
+     * @param wordLength - length of the words of the game
+     * @param secret - the packed secret word
+     * @param guesses - every packed guess, at most {@link WordleGame#MAX_GUESSES}
+     * @param won - true if the secret word was found
+     * @param durationMillis - time the game took, in milliseconds
+     * @throws IOException if the log can't be written
+     */
+    public synchronized void record(int wordLength, long secret, long[] guesses, boolean won, long durationMillis)
+            throws IOException {
+        PlayerStats stats = getLoaded();
+
+        record.clear();
+        record.putLong(secret).putLong(System.currentTimeMillis()).putInt((int) Math.min(durationMillis, Integer.MAX_VALUE));
+        record.put((byte) wordLength).put((byte) guesses.length).put((byte) (won ? 1 : 0)).put((byte) 0);
+        for (int row = 0; row < WordleGame.MAX_GUESSES; row++) { record.putLong(row < guesses.length ? guesses[row] : 0); }
+        record.putInt(0);
+        record.putInt(checksum(record.duplicate().flip()));
+        record.flip();
+        while (record.hasRemaining()) { log.write(record); }
+
+        stats.record(wordLength, guesses.length, won, durationMillis);
+        if (++logRecords >= compactEvery) { compact(); }
+    }
+
+    /**
+     * Folds every record of the log into a new snapshot, and starts an empty log
+     *
+     * @throws IOException if the snapshot or the new log can't be written
+     */
+    public synchronized void compact() throws IOException {
+        PlayerStats stats = getLoaded();
+
+        ByteBuffer snapshot = ByteBuffer.allocate(SNAPSHOT_SIZE);
+        snapshot.putInt(SNAPSHOT_MAGIC).putInt(VERSION).putLong(generation + 1);
+        stats.write(snapshot);
+        CRC32 crc = new CRC32();
+        crc.update(snapshot.duplicate().flip().position(HEADER_SIZE));
+        snapshot.putLong(crc.getValue());
+        writeAtomically(snapshotPath, snapshot.flip());
+
+        // The new snapshot is in place, so the records of the old log are not needed anymore
+        log.close();
+        startLog(generation + 1);
+    }
+
+    /**
+     * Replaces the log with an empty one of the given generation, and opens it for appending
+     */
+    private void startLog(long newGeneration) throws IOException {
+        if (log != null) { log.close(); }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(LOG_MAGIC).putInt(VERSION).putLong(newGeneration);
+        writeAtomically(logPath, header.flip());
+
+        log = FileChannel.open(logPath, StandardOpenOption.WRITE);
+        log.position(HEADER_SIZE);
+        generation = newGeneration;
+        logRecords = 0;
+    }
+
+    /**
+     * Writes a file through a temporary file, so a half written file is never read
+     */
+    private static void writeAtomically(Path path, ByteBuffer contents) throws IOException {
+        Path directory = path.toAbsolutePath().getParent();
+        Path temporary = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE)) {
+            while (contents.hasRemaining()) { channel.write(contents); }
+            channel.force(true);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return checksum of the bytes of a record before its checksum
+     */
+    private static int checksum(ByteBuffer record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.slice(0, CHECKED_SIZE));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * @return the statistics, waiting for the files to be read if they aren't yet
+     * @throws IOException if the files couldn't be read
+     */
+    private PlayerStats getLoaded() throws IOException {
+        try {
+            return loaded.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof IOException) { throw (IOException) e.getCause(); }
+            throw e;
+        }
+    }
+
+    /**
+     * @return a copy of the statistics of every game recorded, waiting for the files to be read if they aren't yet
+     * @throws IOException if the files couldn't be read
+     */
+    public synchronized PlayerStats getStats() throws IOException { return getLoaded().copy(); }
+
+    /**
+     * @return number of records in the log, not folded into the snapshot yet
+     */
+    public synchronized int getLogRecords() { return logRecords; }
+
+    /**
+     * Closes the log. Games can't be recorded anymore afterwards.
+     *
+     * @throws IOException if the log can't be closed
+     */
+    public synchronized void close() throws IOException {
+        getLoaded();
+        log.close();
+    }
+
+    /**
+     * Prints the statistics of the player, with the guess distribution of every mode played.
+     * Run with: gradle run -PmainClass=main.main.StatsStore
+     *
+     * @param args - not used
+     * @throws IOException if the files can't be read
+     */
+    public static void main(String[] args) throws IOException {
+        long start = System.nanoTime();
+        PlayerStats stats = getDefault().getStats();
+        System.out.printf("%s (read in %.1f ms from %s)%n", stats, (System.nanoTime() - start) / 1e6, STATS_DIRECTORY);
+
+        for (int wordLength = 1; wordLength <= PackedWordSet.MAX_WORD_LENGTH; wordLength++) {
+            int[] distribution = stats.getGuessDistribution(wordLength);
+            if (java.util.Arrays.stream(distribution).sum() == 0) { continue; }
+
+            System.out.println(wordLength + " letters:");
+            for (int guesses = 1; guesses < distribution.length; guesses++) {
+                System.out.printf("  %d: %d%n", guesses, distribution[guesses]);
+            }
+            System.out.printf("  lost: %d%n", distribution[0]);
+        }
+    }
+}
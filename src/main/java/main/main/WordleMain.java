@@ -3,11 +3,18 @@ package main.main;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
+import main.controller.MultiBoardController;
 import main.controller.WordleController;
+import main.events.SceneCreationEvent;
+import main.model.MultiBoardGame;
+import main.model.WordleGame;
 import main.model.WordleModel;
 import main.view.InitialScreenView;
+import main.view.MultiBoardView;
 import main.view.WordleView;
 
+import java.io.IOException;
+
 /**
  * Main JavaFX class for our WordFX game. Creates the different stages
  * of the game, as well as handles events that could possibly switch
@@ -30,33 +37,25 @@ public class WordleMain extends Application {
     /** Length of words chosen by user */
     private int wordLength;
 
-    /** User streak from previous games */
-    private int currentUserStreak;
-
     /** The model of our game */
     private WordleModel wordleModel;
 
     /** The view of our game */
     private WordleView wordleView;
 
+    /** Time the application started initializing, in nanoseconds */
+    private long initTime;
+
     public static void main(String[] args) { launch(args); }
 
     @Override
     public void init() throws Exception {
         super.init();
-        this.initialView = new InitialScreenView();
+        this.initTime = System.nanoTime();
+        this.initialView = new InitialScreenView(ReadWordsFiles.getWordLengths());
         wordLength = 0;
     }
 
-    /**
-     * Sets the streak from previous wins by user
-     *
-     * @param streak - Amount of games won in a row by user
-     */
-    public void setStreak(int streak) {
-        this.currentUserStreak = streak;
-    }
-
     @Override
     public void start(Stage primaryStage) {
         window = primaryStage;
@@ -78,6 +77,37 @@ public class WordleMain extends Application {
 
         // Display the scene
         window.show();
+
+        // Read the word files while user is still choosing a mode
+        for (int length : initialView.getWordLengths()) {
+            DictionaryRegistry.preload(length);
+        }
+        // And the statistics of previous games
+        StatsStore.getDefault();
+        logFirstFrame();
+    }
+
+    /**
+     * Logs how long it took from initializing the application until the
+     * initial screen is first laid out on the screen
+     */
+    private void logFirstFrame() {
+        Runnable firstFrame = new Runnable() {
+            @Override
+            public void run() {
+                firstScene.removePostLayoutPulseListener(this);
+                System.out.println("WordFX startup: first frame after " + millisSince(initTime) + " ms");
+            }
+        };
+        firstScene.addPostLayoutPulseListener(firstFrame);
+    }
+
+    /**
+     * @param startTime - a time from {@link System#nanoTime()}
+     * @return milliseconds elapsed since the given time
+     */
+    private static long millisSince(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000;
     }
 
     /**
@@ -85,22 +115,15 @@ public class WordleMain extends Application {
      * user will click on the desired mode, which will output a new scene
      */
     private void initEventHandlersForInitialScreen() {
-        this.initialView.getThreeLetterBtn().setOnMouseClicked(event -> {
-            wordLength = 3;
-            createSecondScene("style.css");
-            window.setScene(secondScene);
-        });
-        this.initialView.getFourLetterBtn().setOnMouseClicked(event -> {
-            wordLength = 4;
-            createSecondScene("style.css");
-            window.setScene(secondScene);
-        });
-        this.initialView.getFiveLetterBtn().setOnMouseClicked(event -> {
-            wordLength = 5;
-            createSecondScene("style.css");
-            window.setScene(secondScene);
-        });
-
+        int[] wordLengths = this.initialView.getWordLengths();
+        for (int i = 0; i < wordLengths.length; i++) {
+            int length = wordLengths[i];
+            this.initialView.getModeButton(i).setOnMouseClicked(event -> {
+                wordLength = length;
+                createSecondScene("style.css");
+                window.setScene(secondScene);
+            });
+        }
     }
 
     /**
@@ -109,9 +132,39 @@ public class WordleMain extends Application {
      * @param style - style of the css to be used on the second screen
      */
     public void createSecondScene(String style) {
-        // Initialize model and view, and also set streak
-        wordleModel = new WordleModel(wordLength);
-        wordleModel.setStreak(currentUserStreak);
+        long clickTime = System.nanoTime();
+        SceneCreationEvent event = new SceneCreationEvent();
+        event.begin();
+
+        // Word files were preloaded when the initial screen was shown, usually done by now
+        DictionaryRegistry.preload(wordLength).join();
+
+        int boardCount = initialView.getBoardsBox().getValue();
+        if (boardCount > 1) {
+            createMultiBoardScene(style, boardCount, clickTime);
+            commitSceneCreation(event, "multi-board", boardCount);
+            return;
+        }
+
+        // Initialize model and view, and also set streak from previous games
+        WordleGame game;
+        String mode;
+        if (initialView.getAbsurdleBox().isSelected()) {
+            game = WordleGame.newAdversarialGame(wordLength);
+            mode = "absurdle";
+        }
+        else if (initialView.getDailyBox().isSelected()) {
+            game = WordleGame.newDailyGame(wordLength, DailyPuzzle.today());
+            mode = "daily";
+        }
+        else {
+            game = WordleGame.newGame(wordLength);
+            mode = "classic";
+        }
+        wordleModel = new WordleModel(game);
+        wordleModel.setStreak(loadStreak());
+        wordleModel.getGame().addListener((row, guess, pattern) -> recordIfOver());
+        wordleModel.getGame().setHardMode(initialView.getHardModeBox().isSelected());
         wordleView = new WordleView(wordleModel);
 
         // Create new scene and use css resources from style.css
@@ -125,6 +178,72 @@ public class WordleMain extends Application {
 
 
         initBackgroundEventHandlers();
+        commitSceneCreation(event, mode, 1);
+        System.out.println("WordFX startup: " + wordLength + "-letter board playable " + millisSince(clickTime)
+                + " ms after click, " + millisSince(initTime) + " ms after launch");
+    }
+
+    /**
+     * Records the creation of the second screen in the flight recorder, once its board is playable
+     *
+     * @param event - event started when user clicked
+     * @param mode - kind of game being played
+     * @param boardCount - number of boards
+     */
+    private void commitSceneCreation(SceneCreationEvent event, String mode, int boardCount) {
+        event.wordLength = wordLength;
+        event.mode = mode;
+        event.boards = boardCount;
+        event.sinceLaunch = System.nanoTime() - initTime;
+        event.commit();
+    }
+
+    /**
+     * Creates the second screen for a game played on several boards at once
+     *
+     * @param style - style of the css to be used on the second screen
+     * @param boardCount - number of boards
+     * @param clickTime - time the user clicked to start, from System.nanoTime()
+     */
+    private void createMultiBoardScene(String style, int boardCount, long clickTime) {
+        MultiBoardGame game = MultiBoardGame.newGame(wordLength, boardCount);
+        MultiBoardView view = new MultiBoardView(game);
+
+        // Window is wide enough for every board of a line, plus room for the scroll bar
+        secondScene = new Scene(view.getRoot(), Math.max(600, view.getBoardsWidth() + 60), 850);
+        secondScene.getStylesheets().add(
+                getClass().getResource(style)
+                        .toExternalForm());
+        new MultiBoardController(game, view, secondScene);
+
+        System.out.println("WordFX startup: " + boardCount + " boards of " + wordLength + " letters playable "
+                + millisSince(clickTime) + " ms after click, " + millisSince(initTime) + " ms after launch");
+    }
+
+    /**
+     * @return number of games won in a row by user before this run, 0 if the statistics can't be read
+     */
+    private static int loadStreak() {
+        try {
+            return StatsStore.getDefault().getStats().getCurrentStreak();
+        } catch (IOException e) {
+            e.printStackTrace();
+            return 0;
+        }
+    }
+
+    /**
+     * Adds the game to the statistics of user once it is over
+     */
+    private void recordIfOver() {
+        if (wordleModel.getGame().getGameState().isPlayable()) { return; }
+        // Adversarial games are a different game, they don't count in the statistics
+        if (wordleModel.getGame().getAdversary() != null) { return; }
+        try {
+            StatsStore.getDefault().record(wordleModel.getGame());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
     }
 
     /**
@@ -0,0 +1,146 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 5:05 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: Adversary
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+import main.main.CompiledDictionary;
+import main.main.PackedWordSet;
+
+/**
+ * The opponent of an adversarial game, like Absurdle: there is no secret word
+ * chosen up front. After each guess, the secret words still possible are split
+ * into buckets by the pattern they would give, and the largest bucket is kept,
+ * so the player learns as little as possible. Ties go to the bucket with the
+ * lowest pattern, the one with the fewest exact letters, which keeps the game
+ * from being won until a single word is left.
+ *
+ * Splitting is one pass over the words left: each pattern is counted in a
+ * histogram with a slot for every pattern (3^L) and remembered, then a second
+ * pass moves the words of the kept bucket to the front of the same array. The
+ * histogram is cleared through the patterns just counted, not slot by slot, so a
+ * guess costs the same for 12-letter words as for 3-letter ones.
+ */
+public class Adversary {
+
+    /** Length of the words */
+    private final int wordLength;
+
+    /** Every secret word, packed as in {@link PackedWordSet} */
+    private final long[] words;
+
+    /** Indices of the words still possible, in the first {@link #remainingCount} slots */
+    private final int[] remaining;
+
+    /** Pattern of each word left, same slot as in {@link #remaining}, for the guess being answered */
+    private final int[] remainingPatterns;
+
+    /** Number of words left for each pattern, every slot is back to 0 between guesses */
+    private final int[] bucketSizes;
+
+    /** Number of words still possible */
+    private int remainingCount;
+
+    /**
+     * Creates an adversary choosing among the words of a dictionary
+     *
+     * @param dictionary - the secret words
+     */
+    public Adversary(CompiledDictionary dictionary) {
+        this(packedWords(dictionary), dictionary.getWordLength());
+    }
+
+    /**
+     * Creates an adversary choosing among packed words
+     *
+     * @param words - the secret words, packed as in {@link PackedWordSet}
+     * @param wordLength - length of the words
+     */
+    public Adversary(long[] words, int wordLength) {
+        if (words.length == 0) { throw new IllegalArgumentException("No secret words to choose from"); }
+
+        this.wordLength = wordLength;
+        this.words = words;
+        this.remaining = new int[words.length];
+        this.remainingPatterns = new int[words.length];
+        this.bucketSizes = new int[Feedback.patternCount(wordLength)];
+        reset();
+    }
+
+    /**
+     * @return every word of a compiled dictionary, packed as in {@link PackedWordSet}
+     */
+    private static long[] packedWords(CompiledDictionary dictionary) {
+        long[] words = new long[dictionary.size()];
+        for (int i = 0; i < words.length; i++) { words[i] = dictionary.packedWord(i); }
+        return words;
+    }
+
+    /**
+     * Makes every secret word possible again, for a new game
+     */
+    public void reset() {
+        for (int i = 0; i < words.length; i++) { remaining[i] = i; }
+        remainingCount = words.length;
+    }
+
+    /**
+     * Answers a guess with the pattern of the largest bucket of words left, and
+     * keeps only the words of that bucket
+     *
+     * @param guess - the packed guess
+     * @return the pattern given to the guess, packed as in {@link Feedback}
+     */
+    public int respond(long guess) {
+        // Count every pattern, remembering the largest bucket as it grows
+        int keptPattern = 0;
+        int keptSize = 0;
+        for (int i = 0; i < remainingCount; i++) {
+            int pattern = Feedback.evaluate(words[remaining[i]], guess, wordLength);
+            remainingPatterns[i] = pattern;
+            int size = ++bucketSizes[pattern];
+            if (size > keptSize || (size == keptSize && pattern < keptPattern)) {
+                keptPattern = pattern;
+                keptSize = size;
+            }
+        }
+
+        // Move the kept words to the front, clearing the histogram on the way
+        int kept = 0;
+        for (int i = 0; i < remainingCount; i++) {
+            int pattern = remainingPatterns[i];
+            bucketSizes[pattern] = 0;
+            if (pattern == keptPattern) { remaining[kept++] = remaining[i]; }
+        }
+        remainingCount = kept;
+        return keptPattern;
+    }
+
+    /**
+     * @return number of secret words still possible
+     */
+    public int getRemainingCount() { return remainingCount; }
+
+    /**
+     * @param index - index among the words still possible, from 0
+     * @return that word, in lowercase
+     */
+    public String getRemainingWord(int index) {
+        if (index >= remainingCount) { throw new IndexOutOfBoundsException(index); }
+        return PackedWordSet.unpack(words[remaining[index]]);
+    }
+}
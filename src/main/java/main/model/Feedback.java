@@ -0,0 +1,297 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 2:15 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: Feedback
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+import main.main.PackedWordSet;
+
+/**
+ * Primitive feedback rules of the game. A pattern gives every letter of a guess
+ * a digit: WRONG, MISPLACED or EXACT, packed into a base-3 int where the letter
+ * at position i has weight 3^i (0 to 242 for 5-letter words). Nothing here
+ * depends on JavaFX, so games can be evaluated without a display.
+ */
+public class Feedback {
+
+    /** Number of letters in the alphabet, one slot per letter in letter counts */
+    public static final int ALPHABET_SIZE = 26;
+
+    /** Pattern digit of a letter that is not in the secret word */
+    public static final int WRONG = 0;
+
+    /** Pattern digit of a letter that is in the secret word, but in another position */
+    public static final int MISPLACED = 1;
+
+    /** Pattern digit of a letter in the correct position */
+    public static final int EXACT = 2;
+
+    /** Symbol for each pattern digit, indexed by WRONG, MISPLACED and EXACT */
+    private static final char[] PATTERN_SYMBOLS = {'-', '+', '*'};
+
+    /**
+     * Only static methods, no need for objects
+     */
+    private Feedback() { }
+
+    /**
+     * Evaluates a guess against a secret where both words are given as letter
+     * indices (0 for 'a' up to 25 for 'z'). First, letters in the correct position
+     * receive an exact digit and every other secret letter is counted in the
+     * 26-slot letterCounts array. Then, letters that are yet to be checked are
+     * misplaced only while the secret still has an unused copy of that letter.
+     * Nothing is allocated, so this can be called millions of times in a row.
+     *
+     * @param secret - letter indices of the secret word
+     * @param guess - letter indices of the guess
+     * @param wordLength - number of letters to compare
+     * @param letterCounts - scratch array of at least 26 slots, overwritten by this call
+     * @return the pattern packed as a base-3 int, where position i has weight 3^i
+     */
+    public static int evaluate(byte[] secret, byte[] guess, int wordLength, int[] letterCounts) {
+        for (int i = 0; i < ALPHABET_SIZE; i++) { letterCounts[i] = 0; }
+
+        // Take care of letters that are in the correct positioning first
+        int exactMask = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (secret[i] == guess[i]) { exactMask |= 1 << i; }
+            else { letterCounts[secret[i]]++; }
+        }
+
+        // Next, if a letter in the guess is still unused in the secret word, it is misplaced
+        int pattern = 0;
+        int weight = 1;
+        for (int i = 0; i < wordLength; i++) {
+            if ((exactMask & (1 << i)) != 0) {
+                pattern += EXACT * weight;
+            }
+            else if (letterCounts[guess[i]] > 0) {
+                letterCounts[guess[i]]--;
+                pattern += MISPLACED * weight;
+            }
+            weight *= 3;
+        }
+        return pattern;
+    }
+
+    /**
+     * Evaluates a guess against a secret where both words are given as
+     * lowercase characters
+     *
+     * @param secret - lowercase letters of the secret word
+     * @param guess - lowercase letters of the guess
+     * @param wordLength - number of letters to compare
+     * @param letterCounts - scratch array of at least 26 slots, overwritten by this call
+     * @return the pattern packed as a base-3 int, where position i has weight 3^i
+     */
+    public static int evaluate(char[] secret, char[] guess, int wordLength, int[] letterCounts) {
+        for (int i = 0; i < ALPHABET_SIZE; i++) { letterCounts[i] = 0; }
+
+        int exactMask = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (secret[i] == guess[i]) { exactMask |= 1 << i; }
+            else { letterCounts[secret[i] - 'a']++; }
+        }
+
+        int pattern = 0;
+        int weight = 1;
+        for (int i = 0; i < wordLength; i++) {
+            if ((exactMask & (1 << i)) != 0) {
+                pattern += EXACT * weight;
+            }
+            else if (letterCounts[guess[i] - 'a'] > 0) {
+                letterCounts[guess[i] - 'a']--;
+                pattern += MISPLACED * weight;
+            }
+            weight *= 3;
+        }
+        return pattern;
+    }
+
+    /**
+     * Evaluates a guess against a secret where both words are packed as in
+     * {@link PackedWordSet}, following the same rules as
+     * {@link #evaluate(byte[], byte[], int, int[])}. Instead of counting letters,
+     * a bit mask remembers which letters of the secret were already used, so
+     * no scratch array is needed.
+     *
+     * @param secret - the packed secret word
+     * @param guess - the packed guess
+     * @param wordLength - number of letters to compare
+     * @return the pattern packed as a base-3 int, where position i has weight 3^i
+     */
+    public static int evaluate(long secret, long guess, int wordLength) {
+        int exactMask = 0;
+        for (int i = 0; i < wordLength; i++) {
+            if (packedLetter(secret, i) == packedLetter(guess, i)) { exactMask |= 1 << i; }
+        }
+
+        // Exact letters of the secret are used already, every other one can be used once
+        int usedMask = exactMask;
+        int pattern = 0;
+        int weight = 1;
+        for (int i = 0; i < wordLength; i++) {
+            if ((exactMask & (1 << i)) != 0) {
+                pattern += EXACT * weight;
+            }
+            else {
+                int letter = packedLetter(guess, i);
+                for (int j = 0; j < wordLength; j++) {
+                    if ((usedMask & (1 << j)) == 0 && packedLetter(secret, j) == letter) {
+                        usedMask |= 1 << j;
+                        pattern += MISPLACED * weight;
+                        break;
+                    }
+                }
+            }
+            weight *= 3;
+        }
+        return pattern;
+    }
+
+    /**
+     * Evaluates one guess against several secrets in a single pass, like the boards
+     * of a multi-board game. The guess is only decoded once. Exact letters of every
+     * board are found at once by comparing the packed words 5 bits at a time, so a
+     * board whose secret is the guess costs a few operations, and the misplaced
+     * letters are only looked for among letters both words have.
+     *
+     * @param guess - the packed guess
+     * @param secrets - the packed secret word of every board
+     * @param boards - boards to evaluate, bit b for secrets[b], up to 64 boards
+     * @param wordLength - number of letters to compare
+     * @param patterns - pattern of every board evaluated, same index as secrets; other boards are left alone
+     */
+    public static void evaluate(long guess, long[] secrets, long boards, int wordLength, int[] patterns) {
+        // Lowest bit of every letter of the word, and every letter of the guess as a set
+        long letterLows = 0;
+        int guessLetterSet = 0;
+        for (int i = 0; i < wordLength; i++) {
+            letterLows |= 1L << (i * PackedWordSet.BITS_PER_LETTER);
+            guessLetterSet |= 1 << packedLetter(guess, i);
+        }
+        int winning = winningPattern(wordLength);
+
+        for (long remaining = boards; remaining != 0; remaining &= remaining - 1) {
+            int board = Long.numberOfTrailingZeros(remaining);
+            long secret = secrets[board];
+
+            // A letter is exact when its 5 bits are equal, so when none of them survive the xor
+            long differences = secret ^ guess;
+            differences |= differences >>> 1 | differences >>> 2 | differences >>> 3 | differences >>> 4;
+            long exactLows = ~differences & letterLows;
+            if (exactLows == letterLows) {
+                patterns[board] = winning;
+                continue;
+            }
+
+            int exactMask = 0;
+            int secretLetterSet = 0;
+            for (int i = 0; i < wordLength; i++) {
+                if ((exactLows >>> (i * PackedWordSet.BITS_PER_LETTER) & 1) != 0) { exactMask |= 1 << i; }
+                else { secretLetterSet |= 1 << packedLetter(secret, i); }
+            }
+
+            // Only letters in both words can be misplaced, usually none or a few of them
+            int usedMask = exactMask;
+            int pattern = 0;
+            int weight = 1;
+            boolean shared = (guessLetterSet & secretLetterSet) != 0;
+            for (int i = 0; i < wordLength; i++, weight *= 3) {
+                if ((exactMask & (1 << i)) != 0) {
+                    pattern += EXACT * weight;
+                    continue;
+                }
+                int letter = packedLetter(guess, i);
+                if (!shared || (secretLetterSet & (1 << letter)) == 0) { continue; }
+                for (int j = 0; j < wordLength; j++) {
+                    if ((usedMask & (1 << j)) == 0 && packedLetter(secret, j) == letter) {
+                        usedMask |= 1 << j;
+                        pattern += MISPLACED * weight;
+                        break;
+                    }
+                }
+            }
+            patterns[board] = pattern;
+        }
+    }
+
+    /**
+     * @param packed - a word packed as in {@link PackedWordSet}
+     * @param index - position of the letter in the word
+     * @return the letter index (0 for 'a' up to 25 for 'z') at the given position
+     */
+    public static int packedLetter(long packed, int index) {
+        return (int) (packed >>> (index * PackedWordSet.BITS_PER_LETTER) & 0x1F) - 1;
+    }
+
+    /**
+     * Converts a lowercase word into letter indices (0 for 'a' up to 25 for 'z')
+     *
+     * @param word - lowercase word
+     * @return the letter indices of the word
+     */
+    public static byte[] toLetters(String word) {
+        byte[] letters = new byte[word.length()];
+        for (int i = 0; i < letters.length; i++) { letters[i] = (byte) (word.charAt(i) - 'a'); }
+        return letters;
+    }
+
+    /**
+     * Decodes a packed pattern into the *, +, - string used by the view
+     *
+     * @param pattern - pattern packed as a base-3 int
+     * @param wordLength - number of letters in the pattern
+     * @return an encoded string with -, +, and * characters
+     */
+    public static String decodePattern(int pattern, int wordLength) {
+        char[] analysis = new char[wordLength];
+        for (int i = 0; i < wordLength; i++) {
+            analysis[i] = PATTERN_SYMBOLS[pattern % 3];
+            pattern /= 3;
+        }
+        return new String(analysis);
+    }
+
+    /**
+     * @param pattern - pattern packed as a base-3 int
+     * @param index - position of the letter in the word
+     * @return the digit (WRONG, MISPLACED or EXACT) of the pattern at the given position
+     */
+    public static int patternDigit(int pattern, int index) {
+        for (int i = 0; i < index; i++) { pattern /= 3; }
+        return pattern % 3;
+    }
+
+    /**
+     * @param wordLength - number of letters in the word
+     * @return the pattern of a guess where every letter is exact (3^wordLength - 1)
+     */
+    public static int winningPattern(int wordLength) {
+        return patternCount(wordLength) - 1;
+    }
+
+    /**
+     * @param wordLength - number of letters in the word
+     * @return how many different patterns exist for the word length (3^wordLength)
+     */
+    public static int patternCount(int wordLength) {
+        int count = 1;
+        for (int i = 0; i < wordLength; i++) { count *= 3; }
+        return count;
+    }
+}
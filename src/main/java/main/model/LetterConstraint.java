@@ -0,0 +1,264 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 8:00 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: LetterConstraint
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+/**
+ * What the feedback so far reveals about the secret word: the letters still
+ * possible at each position, as a 26-bit mask, and the minimum and maximum
+ * number of times each letter appears. Feedback is added one guess at a time,
+ * and a word can then be checked against everything revealed in O(word length).
+ * Checking a word uses a scratch buffer, so a constraint must only be used by
+ * one thread at a time.
+ */
+public class LetterConstraint {
+
+    /** Mask with every letter allowed */
+    public static final int ALL_LETTERS = (1 << Feedback.ALPHABET_SIZE) - 1;
+
+    /** Length of the words being constrained */
+    private final int wordLength;
+
+    /** Letters still possible at each position, bit i set for letter 'a' + i */
+    private final int[] allowedLetters;
+
+    /** Minimum number of times each letter appears */
+    private final int[] minCounts;
+
+    /** Maximum number of times each letter appears */
+    private final int[] maxCounts;
+
+    /** Sum of the minimum counts, the number of letters every matching word must contain */
+    private int requiredTotal;
+
+    /** Scratch buffer to count the letters of the word being checked, always all 0 between calls */
+    private final int[] letterCounts;
+
+    /** Scratch buffer with the letter indices of a packed guess being added */
+    private final byte[] guessLetters;
+
+    /**
+     * Creates a constraint that every word matches
+     *
+     * @param wordLength - length of the words being constrained
+     */
+    public LetterConstraint(int wordLength) {
+        this.wordLength = wordLength;
+        this.allowedLetters = new int[wordLength];
+        this.minCounts = new int[Feedback.ALPHABET_SIZE];
+        this.maxCounts = new int[Feedback.ALPHABET_SIZE];
+        this.letterCounts = new int[Feedback.ALPHABET_SIZE];
+        this.guessLetters = new byte[wordLength];
+        reset();
+    }
+
+    /**
+     * Forgets all the feedback, so every word matches again
+     */
+    public void reset() {
+        for (int i = 0; i < wordLength; i++) { allowedLetters[i] = ALL_LETTERS; }
+        for (int letter = 0; letter < Feedback.ALPHABET_SIZE; letter++) {
+            minCounts[letter] = 0;
+            maxCounts[letter] = wordLength;
+        }
+        requiredTotal = 0;
+    }
+
+    /**
+     * Adds everything the feedback of a guess reveals. An exact letter is the
+     * only one possible at its position, any other letter is not possible at
+     * its position, and a letter appears exactly as many times as it was marked
+     * exact or misplaced if one of its copies was marked wrong, or at least that
+     * many times otherwise.
+     *
+     * @param guess - letter indices of the guess
+     * @param pattern - feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public void add(byte[] guess, int pattern) {
+        for (int i = 0; i < wordLength; i++) {
+            if (Feedback.patternDigit(pattern, i) == Feedback.EXACT) {
+                allowedLetters[i] &= 1 << guess[i];
+            }
+            else {
+                allowedLetters[i] &= ~(1 << guess[i]);
+            }
+        }
+        addCounts(guess, pattern, true);
+    }
+
+    /**
+     * Adds only what hard mode asks guesses to reuse: every exact letter stays at
+     * its position, and every exact or misplaced letter appears at least as many
+     * times as it was marked so
+     *
+     * @param guess - letter indices of the guess
+     * @param pattern - feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public void addRevealed(byte[] guess, int pattern) {
+        for (int i = 0; i < wordLength; i++) {
+            if (Feedback.patternDigit(pattern, i) == Feedback.EXACT) { allowedLetters[i] &= 1 << guess[i]; }
+        }
+        addCounts(guess, pattern, false);
+    }
+
+    /**
+     * Same as {@link #addRevealed(byte[], int)}, for a guess packed as in {@link main.main.PackedWordSet}
+     *
+     * @param guess - the packed guess
+     * @param pattern - feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public void addRevealed(long guess, int pattern) {
+        for (int i = 0; i < wordLength; i++) { guessLetters[i] = (byte) Feedback.packedLetter(guess, i); }
+        addRevealed(guessLetters, pattern);
+    }
+
+    /**
+     * Updates the minimum, and maybe maximum, count of every letter of a guess
+     */
+    private void addCounts(byte[] guess, int pattern, boolean withMaximum) {
+        for (int i = 0; i < wordLength; i++) {
+            int letter = guess[i];
+            if (letterCounts[letter] < 0) { continue; }
+
+            // Count the copies marked exact or misplaced, and look for one marked wrong
+            int found = 0;
+            boolean wrong = false;
+            for (int j = i; j < wordLength; j++) {
+                if (guess[j] != letter) { continue; }
+                if (Feedback.patternDigit(pattern, j) == Feedback.WRONG) {
+                    wrong = true;
+                }
+                else {
+                    found++;
+                }
+            }
+            if (found > minCounts[letter]) {
+                requiredTotal += found - minCounts[letter];
+                minCounts[letter] = found;
+            }
+            if (wrong && withMaximum) { maxCounts[letter] = Math.min(maxCounts[letter], found); }
+
+            // Mark the letter as done, the marks are undone below
+            letterCounts[letter] = -1;
+        }
+        for (int i = 0; i < wordLength; i++) { letterCounts[guess[i]] = 0; }
+    }
+
+    /**
+     * @param word - letter indices of the word
+     * @return true if the word agrees with all the feedback added so far
+     */
+    public boolean matches(byte[] word) {
+        boolean matches = true;
+        int required = 0;
+        for (int i = 0; i < wordLength; i++) {
+            int letter = word[i];
+            int count = ++letterCounts[letter];
+            if (count <= minCounts[letter]) { required++; }
+            matches &= (allowedLetters[i] & (1 << letter)) != 0 && count <= maxCounts[letter];
+        }
+        for (int i = 0; i < wordLength; i++) { letterCounts[word[i]] = 0; }
+        return matches && required == requiredTotal;
+    }
+
+    /**
+     * Same as {@link #matches(byte[])}, for a word typed into a letter buffer
+     *
+     * @param word - buffer holding the word, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the word agrees with all the feedback added so far
+     */
+    public boolean matches(char[] word, int off, int len) {
+        if (len != wordLength) { return false; }
+
+        boolean matches = true;
+        int required = 0;
+        int counted = 0;
+        for (; counted < len; counted++) {
+            int letter = (word[off + counted] | 0x20) - 'a';
+            if (letter < 0 || letter >= Feedback.ALPHABET_SIZE) {
+                matches = false;
+                break;
+            }
+            int count = ++letterCounts[letter];
+            if (count <= minCounts[letter]) { required++; }
+            matches &= (allowedLetters[counted] & (1 << letter)) != 0 && count <= maxCounts[letter];
+        }
+        for (int i = 0; i < counted; i++) { letterCounts[(word[off + i] | 0x20) - 'a'] = 0; }
+        return matches && required == requiredTotal;
+    }
+
+    /**
+     * Explains why a word doesn't match, for the message shown to the user.
+     * Only called once a word failed to match, so it may take its time.
+     *
+     * @param word - buffer holding the word, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return what the word is missing, or null if it matches
+     */
+    public String describeMismatch(char[] word, int off, int len) {
+        if (matches(word, off, len)) { return null; }
+
+        int[] counts = new int[Feedback.ALPHABET_SIZE];
+        for (int i = 0; i < len; i++) {
+            int letter = (word[off + i] | 0x20) - 'a';
+            if (letter < 0 || letter >= Feedback.ALPHABET_SIZE) { return "Guess must only have letters"; }
+            counts[letter]++;
+        }
+        for (int i = 0; i < len; i++) {
+            int allowed = allowedLetters[i];
+            if (Integer.bitCount(allowed) == 1 && (allowed & (1 << ((word[off + i] | 0x20) - 'a'))) == 0) {
+                return "Letter " + (i + 1) + " must be " + (char) ('A' + Integer.numberOfTrailingZeros(allowed));
+            }
+        }
+        for (int letter = 0; letter < Feedback.ALPHABET_SIZE; letter++) {
+            if (counts[letter] < minCounts[letter]) { return "Guess must contain " + (char) ('A' + letter); }
+        }
+        for (int i = 0; i < len; i++) {
+            int letter = (word[off + i] | 0x20) - 'a';
+            if ((allowedLetters[i] & (1 << letter)) == 0) { return "Letter " + (i + 1) + " can't be " + (char) ('A' + letter); }
+            if (counts[letter] > maxCounts[letter]) { return "Too many " + (char) ('A' + letter) + "s"; }
+        }
+        return "Guess doesn't match the hints";
+    }
+
+    /**
+     * @return length of the words being constrained
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @param position - index of a letter in the word
+     * @return letters still possible at the position, bit i set for letter 'a' + i
+     */
+    public int getAllowedLetters(int position) { return allowedLetters[position]; }
+
+    /**
+     * @param letter - index of the letter, 0 for 'a'
+     * @return minimum number of times the letter appears
+     */
+    public int getMinCount(int letter) { return minCounts[letter]; }
+
+    /**
+     * @param letter - index of the letter, 0 for 'a'
+     * @return maximum number of times the letter appears
+     */
+    public int getMaxCount(int letter) { return maxCounts[letter]; }
+}
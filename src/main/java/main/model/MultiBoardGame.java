@@ -0,0 +1,301 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 3:20 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: MultiBoardGame
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import main.main.ReadWordsFiles;
+
+import java.util.Arrays;
+
+/**
+ * A game where every guess is played on several boards at once, each with its
+ * own secret word, like Dordle (2 boards), Quordle (4), Octordle (8) or
+ * Sedecordle (16). The game is won once every board is solved, and there are
+ * {@link #EXTRA_GUESSES} more guesses than boards to get there. Each guess is
+ * evaluated against every unsolved board in one call to
+ * {@link Feedback#evaluate(long, long[], long, int, int[])}. Like {@link WordleGame},
+ * there is no JavaFX here.
+ */
+public class MultiBoardGame {
+
+    /** Number of boards a game can have */
+    public static final int[] BOARD_COUNTS = {2, 4, 8, 16};
+
+    /** Guesses a game has on top of one per board */
+    public static final int EXTRA_GUESSES = 5;
+
+    /** Length of the words in this game */
+    private final int wordLength;
+
+    /** Number of boards, each with its own secret word */
+    private final int boardCount;
+
+    /** Number of guesses before the game is lost */
+    private final int maxGuesses;
+
+    /** Reader with the allowed guesses and secret words already loaded */
+    private final ReadWordsFiles reader;
+
+    /** The packed secret word of every board */
+    private final long[] secrets;
+
+    /** Every packed guess submitted so far, by row */
+    private final long[] guesses;
+
+    /** Pattern of every board on every row, row by row; only meaningful up to the row a board was solved */
+    private final int[] patterns;
+
+    /** Patterns of the guess being submitted, by board */
+    private final int[] rowPatterns;
+
+    /** Row each board was solved on, -1 while it isn't */
+    private final int[] solvedRows;
+
+    /** State each letter reached on every board, board by board, using the states of {@link WordleGame} */
+    private final byte[] letterStates;
+
+    /** Boards not solved yet, bit b for board b */
+    private long unsolved;
+
+    /** Row of the next guess, also the number of guesses submitted so far */
+    private int row;
+
+    /** The current state of the game */
+    private GameState gameState;
+
+    /**
+     * Creates a new game for given secret words
+     *
+     * @param wordLength - length of the words in this game
+     * @param secretWords - secret word of every board, in lowercase
+     * @param reader - reader with the allowed guesses already loaded
+     */
+    public MultiBoardGame(int wordLength, String[] secretWords, ReadWordsFiles reader) {
+        if (secretWords.length < 1 || secretWords.length > Long.SIZE) {
+            throw new IllegalArgumentException("A game has from 1 to " + Long.SIZE + " boards");
+        }
+
+        this.wordLength = wordLength;
+        this.boardCount = secretWords.length;
+        this.maxGuesses = boardCount + EXTRA_GUESSES;
+        this.reader = reader;
+
+        this.secrets = new long[boardCount];
+        this.guesses = new long[maxGuesses];
+        this.patterns = new int[maxGuesses * boardCount];
+        this.rowPatterns = new int[boardCount];
+        this.solvedRows = new int[boardCount];
+        this.letterStates = new byte[boardCount * Feedback.ALPHABET_SIZE];
+        restart(secretWords);
+    }
+
+    /**
+     * Creates a new game with a random secret word on every board, all different
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @param boardCount - number of boards
+     * @return the new game
+     */
+    public static MultiBoardGame newGame(int wordLength, int boardCount) {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        return new MultiBoardGame(wordLength, randomWords(reader, wordLength, boardCount), reader);
+    }
+
+    /**
+     * Starts a new game on this same object with other random secret words
+     *
+     * @return the new secret words
+     */
+    public String[] restart() {
+        String[] secretWords = randomWords(reader, wordLength, boardCount);
+        restart(secretWords);
+        return secretWords;
+    }
+
+    /**
+     * Starts a new game on this same object, reusing every array
+     *
+     * @param secretWords - secret word of every board, as many as there are boards
+     */
+    public void restart(String[] secretWords) {
+        if (secretWords.length != boardCount) {
+            throw new IllegalArgumentException("Game has " + boardCount + " boards, not " + secretWords.length);
+        }
+        for (int board = 0; board < boardCount; board++) {
+            if (secretWords[board].length() != wordLength) {
+                throw new IllegalArgumentException("Secret word must have " + wordLength + " letters: " + secretWords[board]);
+            }
+            secrets[board] = PackedWordSet.pack(secretWords[board]);
+        }
+
+        Arrays.fill(solvedRows, -1);
+        Arrays.fill(letterStates, WordleGame.LETTER_UNKNOWN);
+        this.unsolved = boardCount == Long.SIZE ? -1L : (1L << boardCount) - 1;
+        this.row = 0;
+        this.gameState = GameState.NEW_GAME;
+    }
+
+    /**
+     * Picks a different random secret word for every board
+     */
+    private static String[] randomWords(ReadWordsFiles reader, int wordLength, int boardCount) {
+        if (DictionaryRegistry.getSecretDictionary(wordLength).size() < boardCount) {
+            throw new IllegalArgumentException("Not enough " + wordLength + "-letter words for " + boardCount + " boards");
+        }
+
+        String[] words = new String[boardCount];
+        for (int board = 0; board < boardCount; board++) {
+            // Lists have thousands of words, so a repeat is rare and simply drawn again
+            do {
+                words[board] = reader.createRandomWord(ReadWordsFiles.getSecretWordFile(wordLength));
+            } while (Arrays.asList(words).subList(0, board).contains(words[board]));
+        }
+        return words;
+    }
+
+    /**
+     * Submits a guess on every unsolved board. The guess is not checked against
+     * the allowed words, use {@link #isAllowed(char[], int, int)} for that first.
+     *
+     * @param guess - the guess, in upper or lowercase
+     * @return row the guess was submitted on
+     */
+    public int submitGuess(String guess) { return submitGuess(PackedWordSet.pack(guess)); }
+
+    /**
+     * Submits a packed guess on every unsolved board
+     *
+     * @param guess - the packed guess
+     * @return row the guess was submitted on
+     */
+    public int submitGuess(long guess) {
+        if (!gameState.isPlayable()) { throw new IllegalStateException("Game is over"); }
+
+        int guessRow = row;
+        guesses[guessRow] = guess;
+        Feedback.evaluate(guess, secrets, unsolved, wordLength, rowPatterns);
+
+        int winning = Feedback.winningPattern(wordLength);
+        for (long remaining = unsolved; remaining != 0; remaining &= remaining - 1) {
+            int board = Long.numberOfTrailingZeros(remaining);
+            int pattern = rowPatterns[board];
+            patterns[guessRow * boardCount + board] = pattern;
+
+            // Pattern digits are WRONG, MISPLACED, EXACT, one below the matching letter state
+            int stateStart = board * Feedback.ALPHABET_SIZE;
+            for (int i = 0; i < wordLength; i++, pattern /= 3) {
+                int letter = stateStart + Feedback.packedLetter(guess, i);
+                byte state = (byte) (pattern % 3 + 1);
+                if (state > letterStates[letter]) { letterStates[letter] = state; }
+            }
+
+            if (rowPatterns[board] == winning) {
+                solvedRows[board] = guessRow;
+                unsolved &= ~(1L << board);
+            }
+        }
+
+        row++;
+        if (unsolved == 0) { gameState = GameState.GAME_WINNER; }
+        else if (row == maxGuesses) { gameState = GameState.GAME_LOSER; }
+        else { gameState = GameState.GAME_IN_PROGRESS; }
+        return guessRow;
+    }
+
+    /**
+     * @param guess - buffer holding the guess, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the guess is one of the allowed words
+     */
+    public boolean isAllowed(char[] guess, int off, int len) { return reader.isWordInSet(guess, off, len); }
+
+    /**
+     * @param guessRow - row of a guess already submitted
+     * @param board - a board
+     * @return pattern of the guess on that board, only meaningful if the board wasn't solved before that row
+     */
+    public int getPattern(int guessRow, int board) { return patterns[guessRow * boardCount + board]; }
+
+    /**
+     * @param guessRow - row of a guess already submitted
+     * @return the guess submitted on that row, in lowercase
+     */
+    public String getGuess(int guessRow) { return PackedWordSet.unpack(guesses[guessRow]); }
+
+    /**
+     * @param board - a board
+     * @return the secret word of that board, in lowercase
+     */
+    public String getSecretWord(int board) { return PackedWordSet.unpack(secrets[board]); }
+
+    /**
+     * @param board - a board
+     * @return row the board was solved on, -1 if it isn't solved
+     */
+    public int getSolvedRow(int board) { return solvedRows[board]; }
+
+    /**
+     * @param board - a board
+     * @param guessRow - row of a guess
+     * @return true if the guess on that row was played on the board, so it wasn't solved before
+     */
+    public boolean isPlayedOn(int board, int guessRow) {
+        return guessRow < row && (solvedRows[board] < 0 || guessRow <= solvedRows[board]);
+    }
+
+    /**
+     * @return number of boards solved so far
+     */
+    public int getSolvedCount() { return boardCount - Long.bitCount(unsolved); }
+
+    /**
+     * @param board - a board
+     * @param letter - letter index, 0 for 'a' up to 25 for 'z'
+     * @return best state the letter reached on the board, one of the letter states of {@link WordleGame}
+     */
+    public byte getLetterState(int board, int letter) { return letterStates[board * Feedback.ALPHABET_SIZE + letter]; }
+
+    /**
+     * @return length of the words in this game
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return number of boards
+     */
+    public int getBoardCount() { return boardCount; }
+
+    /**
+     * @return number of guesses before the game is lost
+     */
+    public int getMaxGuesses() { return maxGuesses; }
+
+    /**
+     * @return row of the next guess, also the number of guesses submitted so far
+     */
+    public int getRow() { return row; }
+
+    /**
+     * @return the state of the game
+     */
+    public GameState getGameState() { return gameState; }
+}
@@ -0,0 +1,189 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 12:40 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: PlayerStats
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+import main.main.PackedWordSet;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Statistics of every game the player finished: games played and won, the
+ * current and longest win streaks, total time played, and how many guesses
+ * each win took for every word length. Only counters are kept, so they take
+ * the same space and are read in the same time after a hundred thousand games
+ * as after one.
+ */
+public class PlayerStats {
+
+    /** Bytes used by the statistics once written with {@link #write(ByteBuffer)} */
+    public static final int BYTES = Long.BYTES * 4 + Integer.BYTES * 2
+            + Integer.BYTES * (PackedWordSet.MAX_WORD_LENGTH + 1) * (WordleGame.MAX_GUESSES + 1);
+
+    /** Number of games finished */
+    private long played;
+
+    /** Number of games won */
+    private long wins;
+
+    /** Total time spent on finished games, in milliseconds */
+    private long totalMillis;
+
+    /** Number of guesses of every finished game */
+    private long totalGuesses;
+
+    /** Number of games won in a row, up to the last game */
+    private int currentStreak;
+
+    /** Most games ever won in a row */
+    private int maxStreak;
+
+    /** For every word length, the number of games lost (index 0) and won in 1 to 6 guesses */
+    private final int[][] distribution;
+
+    /**
+     * Creates statistics with no games
+     */
+    public PlayerStats() {
+        this.distribution = new int[PackedWordSet.MAX_WORD_LENGTH + 1][WordleGame.MAX_GUESSES + 1];
+    }
+
+    /**
+     * Adds a finished game
+     *
+     * @param wordLength - length of the words of the game
+     * @param guesses - number of guesses submitted
+     * @param won - true if the secret word was found
+     * @param durationMillis - time the game took, in milliseconds
+     */
+    public void record(int wordLength, int guesses, boolean won, long durationMillis) {
+        played++;
+        totalGuesses += guesses;
+        totalMillis += durationMillis;
+        if (won) {
+            wins++;
+            currentStreak++;
+            maxStreak = Math.max(maxStreak, currentStreak);
+            distribution[wordLength][guesses]++;
+        }
+        else {
+            currentStreak = 0;
+            distribution[wordLength][0]++;
+        }
+    }
+
+    /**
+     * @return a copy of the statistics, that doesn't change when games are added to these
+     */
+    public PlayerStats copy() {
+        PlayerStats copy = new PlayerStats();
+        copy.played = played;
+        copy.wins = wins;
+        copy.totalMillis = totalMillis;
+        copy.totalGuesses = totalGuesses;
+        copy.currentStreak = currentStreak;
+        copy.maxStreak = maxStreak;
+        for (int length = 0; length < distribution.length; length++) {
+            System.arraycopy(distribution[length], 0, copy.distribution[length], 0, distribution[length].length);
+        }
+        return copy;
+    }
+
+    /**
+     * Writes every counter, in the layout read by {@link #read(ByteBuffer)}
+     *
+     * @param buffer - buffer with at least {@link #BYTES} bytes left
+     */
+    public void write(ByteBuffer buffer) {
+        buffer.putLong(played).putLong(wins).putLong(totalMillis).putLong(totalGuesses);
+        buffer.putInt(currentStreak).putInt(maxStreak);
+        for (int[] counts : distribution) {
+            for (int count : counts) { buffer.putInt(count); }
+        }
+    }
+
+    /**
+     * Reads statistics written with {@link #write(ByteBuffer)}
+     *
+     * @param buffer - buffer with at least {@link #BYTES} bytes left
+     * @return the statistics
+     */
+    public static PlayerStats read(ByteBuffer buffer) {
+        PlayerStats stats = new PlayerStats();
+        stats.played = buffer.getLong();
+        stats.wins = buffer.getLong();
+        stats.totalMillis = buffer.getLong();
+        stats.totalGuesses = buffer.getLong();
+        stats.currentStreak = buffer.getInt();
+        stats.maxStreak = buffer.getInt();
+        for (int[] counts : stats.distribution) {
+            for (int i = 0; i < counts.length; i++) { counts[i] = buffer.getInt(); }
+        }
+        return stats;
+    }
+
+    /**
+     * @return number of games finished
+     */
+    public long getPlayed() { return played; }
+
+    /**
+     * @return number of games won
+     */
+    public long getWins() { return wins; }
+
+    /**
+     * @return wins over games played, 0 before the first game
+     */
+    public double getWinRate() { return played == 0 ? 0 : (double) wins / played; }
+
+    /**
+     * @return number of games won in a row, up to the last game
+     */
+    public int getCurrentStreak() { return currentStreak; }
+
+    /**
+     * @return most games ever won in a row
+     */
+    public int getMaxStreak() { return maxStreak; }
+
+    /**
+     * @return total time spent on finished games, in milliseconds
+     */
+    public long getTotalMillis() { return totalMillis; }
+
+    /**
+     * @return average number of guesses of a finished game, 0 before the first game
+     */
+    public double getAverageGuesses() { return played == 0 ? 0 : (double) totalGuesses / played; }
+
+    /**
+     * @param wordLength - length of the words
+     * @return number of games lost (index 0) and won in 1 to 6 guesses, with words of that length
+     */
+    public int[] getGuessDistribution(int wordLength) { return distribution[wordLength].clone(); }
+
+    /**
+     * @return summary of the statistics, for printing
+     */
+    @Override
+    public String toString() {
+        return String.format("Played %d, won %.0f%%, current streak %d, max streak %d",
+                played, getWinRate() * 100, currentStreak, maxStreak);
+    }
+}
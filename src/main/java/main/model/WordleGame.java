@@ -0,0 +1,482 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 2:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.model
+ * Class: WordleGame
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.model;
+
+import main.main.DailyPuzzle;
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import main.main.ReadWordsFiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * The game itself, without any JavaFX: secret word, guesses and their
+ * feedback, the row and column the next letter goes in, the state of the
+ * game and the win streak. {@link WordleModel} wraps one of these for the
+ * interface, and simulations or tests can play it directly without a display.
+ */
+public class WordleGame {
+
+    /** Number of guesses user has to find the secret word */
+    public static final int MAX_GUESSES = 6;
+
+    /** State of a letter not guessed yet. Letter states are ordered, a letter only ever moves up */
+    public static final byte LETTER_UNKNOWN = 0;
+
+    /** State of a letter guessed, but not in the secret word */
+    public static final byte LETTER_WRONG = 1;
+
+    /** State of a letter in the secret word, not found in its position yet */
+    public static final byte LETTER_MISPLACED = 2;
+
+    /** State of a letter found in its position */
+    public static final byte LETTER_EXACT = 3;
+
+    /** Mode that user has chosen (3 to 12-letter words) */
+    private final int wordLength;
+
+    /** Secret word of current game */
+    private String secretWord;
+
+    /** Letter indices of the secret word */
+    private final byte[] secretLetters;
+
+    /** Reader with the allowed guesses */
+    private final ReadWordsFiles reader;
+
+    /** Every guess submitted so far, by row */
+    private final String[] guesses;
+
+    /** Feedback pattern of every guess submitted so far, by row */
+    private final int[] patterns;
+
+    /** Scratch buffer with the letter indices of the guess being evaluated */
+    private final byte[] guessLetters;
+
+    /** Scratch buffer to count unused letters of the secret word */
+    private final int[] letterCounts;
+
+    /** Everyone observing the guesses of this game */
+    private final ArrayList<WordleGameListener> listeners;
+
+    /** Current row that we are on */
+    private int row;
+
+    /** Current column that we are on */
+    private int column;
+
+    /** Current guess number */
+    private int currentGuessNumber;
+
+    /** The current state of the game */
+    private GameState gameState;
+
+    /** Keeps track of how many games user has won */
+    private int currentWinStreak;
+
+    /** True if every guess must reuse the hints revealed so far */
+    private boolean hardMode;
+
+    /** Best state reached by each letter so far, as shown on the keyboard */
+    private final byte[] letterStates;
+
+    /** Greens and yellows revealed so far, updated once per guess */
+    private final LetterConstraint revealed;
+
+    /** Time the game started, from {@link System#nanoTime()} */
+    private long startNanos;
+
+    /** Time the game ended, from {@link System#nanoTime()}, only meaningful once it is over */
+    private long endNanos;
+
+    /** Opponent choosing the feedback of every guess in an adversarial game, null in a normal one */
+    private Adversary adversary;
+
+    /** Time the last guess took to evaluate, in nanoseconds */
+    private long evaluationNanos;
+
+    /**
+     * Creates a new game for a given secret word
+     *
+     * @param wordLength - length of the words in this game
+     * @param secretWord - secret word to be guessed
+     * @param reader - reader with the allowed guesses already loaded
+     */
+    public WordleGame(int wordLength, String secretWord, ReadWordsFiles reader) {
+        this.wordLength = wordLength;
+        this.secretWord = secretWord;
+        this.secretLetters = Feedback.toLetters(secretWord);
+        this.reader = reader;
+
+        this.guesses = new String[MAX_GUESSES];
+        this.patterns = new int[MAX_GUESSES];
+        this.guessLetters = new byte[wordLength];
+        this.letterCounts = new int[Feedback.ALPHABET_SIZE];
+        this.listeners = new ArrayList<>();
+        this.revealed = new LetterConstraint(wordLength);
+        this.letterStates = new byte[Feedback.ALPHABET_SIZE];
+
+        // Keep track of where the next letter is typed or deleted
+        this.row = 0;
+        this.column = -1;
+
+        // state of game starts our with NEW_GAME
+        this.gameState = GameState.NEW_GAME;
+        this.currentWinStreak = 0;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a new game with a random secret word from the word files of
+     * the given word length
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the new game
+     */
+    public static WordleGame newGame(int wordLength) {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        String secretWord = reader.createRandomWord(ReadWordsFiles.getSecretWordFile(wordLength));
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        return new WordleGame(wordLength, secretWord, reader);
+    }
+
+    /**
+     * Creates the daily puzzle of a day, with the same secret word on every machine
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @param day - day of the puzzle, usually {@link DailyPuzzle#today()}
+     * @return the new game
+     */
+    public static WordleGame newDailyGame(int wordLength, LocalDate day) {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        String secretWord = reader.createSeededWord(ReadWordsFiles.getSecretWordFile(wordLength),
+                DailyPuzzle.DAILY_SEED, DailyPuzzle.getPuzzleNumber(day));
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        return new WordleGame(wordLength, secretWord, reader);
+    }
+
+    /**
+     * Creates an adversarial game, like Absurdle: there is no secret word until
+     * the guesses leave a single one, every guess getting the feedback that keeps
+     * the most secret words possible
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the new game
+     */
+    public static WordleGame newAdversarialGame(int wordLength) {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        Adversary adversary = new Adversary(DictionaryRegistry.getSecretDictionary(wordLength));
+        WordleGame game = new WordleGame(wordLength, adversary.getRemainingWord(0), reader);
+        game.adversary = adversary;
+        return game;
+    }
+
+    /**
+     * Starts a new game on this same object with another random secret word from
+     * the cached word list. Win streak, hard mode and listeners are kept.
+     *
+     * @return the new secret word
+     */
+    public String restart() {
+        String word = reader.createRandomWord(ReadWordsFiles.getSecretWordFile(wordLength));
+        restart(word);
+        return word;
+    }
+
+    /**
+     * Starts a new game on this same object, reusing every buffer. Win streak,
+     * hard mode and listeners are kept.
+     *
+     * @param secretWord - secret word to be guessed, of the same length
+     */
+    public void restart(String secretWord) {
+        if (secretWord.length() != wordLength) {
+            throw new IllegalArgumentException("Secret word must have " + wordLength + " letters: " + secretWord);
+        }
+
+        setSecretWord(secretWord);
+        if (adversary != null) { adversary.reset(); }
+        Arrays.fill(guesses, null);
+        Arrays.fill(patterns, 0);
+        Arrays.fill(letterStates, LETTER_UNKNOWN);
+        revealed.reset();
+
+        this.row = 0;
+        this.column = -1;
+        this.currentGuessNumber = 0;
+        this.gameState = GameState.NEW_GAME;
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * Submits a guess on the current row. The guess is evaluated, the game state
+     * and win streak are updated, listeners are told about it, and the game moves
+     * on to the next row. The guess is not checked against the allowed words or the
+     * hard mode hints, use {@link #isAllowed(String)} and
+     * {@link #honorsRevealedHints(char[], int, int)} for that first.
+     *
+     * @param guess - the guess, in lowercase
+     * @return feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public int submitGuess(String guess) {
+        if (!this.gameState.isPlayable()) {
+            throw new IllegalStateException("Game is over");
+        }
+
+        long evaluationStart = System.nanoTime();
+        for (int i = 0; i < wordLength; i++) { guessLetters[i] = (byte) (guess.charAt(i) - 'a'); }
+        int pattern;
+        if (adversary == null) {
+            pattern = Feedback.evaluate(secretLetters, guessLetters, wordLength, letterCounts);
+        }
+        else {
+            // Any word left fits every feedback given so far, so it stands in as the secret word
+            pattern = adversary.respond(PackedWordSet.pack(guess));
+            setSecretWord(adversary.getRemainingWord(0));
+        }
+        this.evaluationNanos = System.nanoTime() - evaluationStart;
+        int guessRow = this.row;
+        this.guesses[guessRow] = guess;
+        this.patterns[guessRow] = pattern;
+        this.revealed.addRevealed(guessLetters, pattern);
+
+        // Pattern digits are WRONG, MISPLACED, EXACT, one below the matching letter state
+        int digits = pattern;
+        for (int i = 0; i < wordLength; i++, digits /= 3) {
+            byte state = (byte) (digits % 3 + 1);
+            if (state > letterStates[guessLetters[i]]) { letterStates[guessLetters[i]] = state; }
+        }
+
+        // If the user gets the right word
+        if (pattern == Feedback.winningPattern(wordLength)) {
+            this.gameState = GameState.GAME_WINNER;
+            this.currentWinStreak++;
+        }
+        // If user runs out of guesses
+        else if (guessRow >= MAX_GUESSES - 1) {
+            this.gameState = GameState.GAME_LOSER;
+            this.currentWinStreak = 0;
+        }
+        else {
+            this.gameState = GameState.GAME_IN_PROGRESS;
+        }
+
+        this.currentGuessNumber++;
+        this.row++;
+        this.column = 0;
+        if (!this.gameState.isPlayable()) { this.endNanos = System.nanoTime(); }
+
+        for (WordleGameListener listener : listeners) {
+            listener.guessSubmitted(guessRow, guess, pattern);
+        }
+        return pattern;
+    }
+
+    /**
+     * Sets the secret word and its letter indices
+     */
+    private void setSecretWord(String secretWord) {
+        this.secretWord = secretWord;
+        for (int i = 0; i < wordLength; i++) { secretLetters[i] = (byte) (secretWord.charAt(i) - 'a'); }
+    }
+
+    /**
+     * Evaluates a guess against the secret word without submitting it
+     *
+     * @param guess - the guess, in lowercase
+     * @return feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public int evaluate(String guess) {
+        for (int i = 0; i < wordLength; i++) { guessLetters[i] = (byte) (guess.charAt(i) - 'a'); }
+        return Feedback.evaluate(secretLetters, guessLetters, wordLength, letterCounts);
+    }
+
+    /**
+     * @param guess - the guess, in upper or lowercase
+     * @return true if the guess is one of the allowed words
+     */
+    public boolean isAllowed(String guess) { return reader.isWordInSet(guess); }
+
+    /**
+     * @param guess - buffer holding the guess, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the guess is one of the allowed words
+     */
+    public boolean isAllowed(char[] guess, int off, int len) { return reader.isWordInSet(guess, off, len); }
+
+    /**
+     * Checks the hard mode rule: every green must stay in place and every yellow
+     * must be used again. Always true when hard mode is off.
+     *
+     * @param guess - buffer holding the guess, in upper or lowercase
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return true if the guess may be submitted in the current mode
+     */
+    public boolean honorsRevealedHints(char[] guess, int off, int len) {
+        return !hardMode || revealed.matches(guess, off, len);
+    }
+
+    /**
+     * @param guess - buffer holding a guess that doesn't honor the revealed hints
+     * @param off - index of the first letter
+     * @param len - number of letters
+     * @return message telling user which hint the guess is missing
+     */
+    public String describeMissingHint(char[] guess, int off, int len) {
+        return revealed.describeMismatch(guess, off, len);
+    }
+
+    /**
+     * @param listener - listener to be told about every guess submitted from now on
+     */
+    public void addListener(WordleGameListener listener) { this.listeners.add(listener); }
+
+    /**
+     * @param guessRow - row of a guess already submitted
+     * @return the guess submitted on that row
+     */
+    public String getGuess(int guessRow) { return guesses[guessRow]; }
+
+    /**
+     * @param guessRow - row of a guess already submitted
+     * @return the feedback pattern of the guess submitted on that row
+     */
+    public int getPattern(int guessRow) { return patterns[guessRow]; }
+
+    /**
+     * @return length of words in this game
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return the secret word of the game
+     */
+    public String getSecretWord() { return secretWord; }
+
+    /**
+     * @return opponent choosing the feedback of every guess, null unless the game is adversarial
+     */
+    public Adversary getAdversary() { return adversary; }
+
+    /**
+     * @return time the last guess took to evaluate, without telling the listeners, in nanoseconds
+     */
+    public long getEvaluationNanos() { return evaluationNanos; }
+
+    /**
+     * @return reader object
+     */
+    public ReadWordsFiles getReader() { return reader; }
+
+    /**
+     * @return true if every guess must reuse the hints revealed so far
+     */
+    public boolean isHardMode() { return hardMode; }
+
+    /**
+     * @param hardMode - true if every guess must reuse the hints revealed so far
+     */
+    public void setHardMode(boolean hardMode) { this.hardMode = hardMode; }
+
+    /**
+     * @param letter - index of the letter, 0 for 'a'
+     * @return best state reached by the letter so far, from {@link #LETTER_UNKNOWN} to {@link #LETTER_EXACT}
+     */
+    public byte getLetterState(int letter) { return letterStates[letter]; }
+
+    /**
+     * @return greens and yellows revealed so far
+     */
+    public LetterConstraint getRevealed() { return revealed; }
+
+    /**
+     * @return the state of the game
+     */
+    public GameState getGameState() { return gameState; }
+
+    /**
+     * Sets the game state
+     * @param gameState - a new state for the game (new game, in progress, paused, winner, loser)
+     */
+    public void setGameState(GameState gameState) { this.gameState = gameState; }
+
+    /**
+     * @return the current win streak of the player
+     */
+    public int getCurrentWinStreak() { return currentWinStreak; }
+
+    /**
+     * Sets the win streak
+     * @param currentWinStreak - current win streak of user
+     */
+    public void setStreak(int currentWinStreak) { this.currentWinStreak = currentWinStreak; }
+
+    /**
+     * Increments the win streak by one
+     */
+    public void incrementCurrentWinStreak() { this.currentWinStreak++; }
+
+    /**
+     * @return number of guesses submitted so far
+     */
+    public int getCurrentGuessNumber() { return currentGuessNumber; }
+
+    /**
+     * @return time spent on the game so far, or until it ended, in milliseconds
+     */
+    public long getElapsedMillis() {
+        long end = gameState.isPlayable() ? System.nanoTime() : endNanos;
+        return (end - startNanos) / 1_000_000;
+    }
+
+    /**
+     * Increments the current guess
+     */
+    public void incrementCurrentGuessNumber() { this.currentGuessNumber++; }
+
+    /**
+     * @return row value
+     */
+    public int getRow() { return row; }
+
+    /**
+     * @return column value
+     */
+    public int getColumn() { return column; }
+
+    /**
+     * Sets new column
+     * @param col - new value for column
+     */
+    public void setColumn(int col) { this.column = col; }
+
+    /** Increments row value by 1 -> going to a new guess after checking some guess */
+    public void incrementRow() { this.row++; }
+
+    /** Increments column value by 1 -> typing letter */
+    public void incrementColumn() { this.column++; }
+
+    /** Decreases column value by 1 -> deleting letter */
+    public void decrementColumn() { this.column--; }
+}
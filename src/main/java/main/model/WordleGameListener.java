@@ -0,0 +1,17 @@
+package main.model;
+
+/**
+ * Simple interface for anything that wants to know about guesses submitted
+ * to a {@link WordleGame}, like the views showing the game on screen
+ */
+public interface WordleGameListener {
+
+    /**
+     * Called once a guess is evaluated and the game state is up to date
+     *
+     * @param row - row of the guess that was submitted
+     * @param guess - the guess, in lowercase
+     * @param pattern - feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    void guessSubmitted(int row, String guess, int pattern);
+}
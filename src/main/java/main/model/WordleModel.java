@@ -28,19 +28,13 @@ import main.view.VirtualKeyboardView;
 import java.util.ArrayList;
 
 /**
- * Wordle model takes care of all the behind the scenes. Keeps track of the row
- * and column the next letter will be typed in, initializes header, virtual keyboard, and
- * tiles. Also keeps track of user win streak.
+ * Wordle model takes care of all the behind the scenes. Initializes header, virtual
+ * keyboard, and tiles. The game itself (row and column the next letter will be typed in,
+ * game state, user win streak) is kept by a {@link WordleGame}, which has no JavaFX.
  */
 public class WordleModel {
-    /** Current row that we are on */
-    private int row;
-
-    /** Current column that we are on */
-    private int column;
-
-    /** Current guess number */
-    private int currentGuessNumber;
+    /** The game being shown, without any of the interface */
+    private final WordleGame game;
 
     /** The 30 tiles representing all possible guesses */
     private TileView tiles;
@@ -60,18 +54,14 @@ public class WordleModel {
     /** The list with the buttons on the virtual keyboard */
     private ArrayList<Button> keysList;
 
-    /** Keeps track of how many games user has won */
-    private int currentWinStreak;
-
-    /** Reader object to create secret word/possible guess sets from txt files */
-    private ReadWordsFiles reader;
-
-    /** Secret word of current game */
-    private String secretWord;
-
-    /** Mode that user has chosen (3, 4, or 5-letter words) */
+    /** Mode that user has chosen (3 to 12-letter words) */
     private final int WORD_LENGTH;
 
+    /**
+     * @return the game being shown
+     */
+    public WordleGame getGame() { return game; }
+
     /**
      * @return length of words chosen by user
      */
@@ -80,23 +70,23 @@ public class WordleModel {
     /**
      * @return the secret word of the game
      */
-    public String getSecretWord() { return secretWord; }
+    public String getSecretWord() { return game.getSecretWord(); }
 
     /**
      * @return reader object
      */
-    public ReadWordsFiles getReader() { return reader; }
+    public ReadWordsFiles getReader() { return game.getReader(); }
 
     /**
      * @return the current win streak of the player
      */
-    public int getCurrentWinStreak() { return currentWinStreak; }
+    public int getCurrentWinStreak() { return game.getCurrentWinStreak(); }
 
     /**
      * Sets the win streak
      * @param currentWinStreak - current win streak of user
      */
-    public void setStreak(int currentWinStreak) { this.currentWinStreak = currentWinStreak; }
+    public void setStreak(int currentWinStreak) { game.setStreak(currentWinStreak); }
 
     /**
      * @return List with all letters contained in last given guess
@@ -133,21 +123,18 @@ public class WordleModel {
      */
     public Header getHeader() { return header; }
 
-    /** The current state of the game */
-    private GameState gameState;
-
     /**
      * Sets the game state
      * @param gameState - a new state for the game (new game, in progress, paused, winner, loser)
      */
-    public void setGameState(GameState gameState) { this.gameState = gameState; }
+    public void setGameState(GameState gameState) { game.setGameState(gameState); }
 
     /**
      * @return the state of the game
      */
-    public GameState getGameState() { return gameState;}
+    public GameState getGameState() { return game.getGameState(); }
 
-    public int getCurrentGuessNumber() { return currentGuessNumber; }
+    public int getCurrentGuessNumber() { return game.getCurrentGuessNumber(); }
 
     /**
      * Simple constructor of our model. Takes in the length of
@@ -156,49 +143,27 @@ public class WordleModel {
      * @param wordLength - length of word chosen by user
      */
     public WordleModel(int wordLength) {
-        this.WORD_LENGTH = wordLength;
+        // The game reads the word files and keeps track of everything else
+        this(WordleGame.newGame(wordLength));
+    }
+
+    /**
+     * Creates the interface of a game already created, like a daily puzzle
+     *
+     * @param game - the game to be shown
+     */
+    public WordleModel(WordleGame game) {
+        this.WORD_LENGTH = game.getWordLength();
+        this.game = game;
 
         // Three main components of interface
         this.header = new Header();
-        this.tiles = new TileView(wordLength);
+        this.tiles = new TileView(WORD_LENGTH);
         this.vk = new VirtualKeyboardView();
 
-        // Keep track of where the next letter is typed or deleted
-        this.row = 0;
-        this.column = -1;
-
-        // state of game starts our with NEW_GAME
-        this.gameState = GameState.NEW_GAME;
-        this.currentWinStreak = 0;
-        this.reader = new ReadWordsFiles();
-
-        readFileOfWords(wordLength);
         initInterface();
     }
 
-    /**
-     * Reads file of words according to word length user has chosen
-     *
-     * @param wordLength - word length user has chosen (3, 4, or 5)
-     */
-    private void readFileOfWords(int wordLength) {
-        switch (wordLength) {
-            case 3:
-                this.secretWord = this.reader.createRandomWord("src/main/resources/text-files/3words.txt");
-                this.reader.createWordSet("src/main/resources/text-files/allowed3words.txt");
-                break;
-            case 4:
-                this.secretWord = this.reader.createRandomWord("src/main/resources/text-files/4words.txt");
-                this.reader.createWordSet("src/main/resources/text-files/allowed4words.txt");
-                break;
-            default:
-                this.secretWord = this.reader.createRandomWord("src/main/resources/text-files/5words.txt");
-                this.reader.createWordSet("src/main/resources/text-files/allowed5words.txt");
-                break;
-
-        }
-    }
-
     /**
      * Initializes the interface with the header, tiles, and virtual keyboard
      */
@@ -213,48 +178,47 @@ public class WordleModel {
         this.listOfGuesses = this.tiles.getGuessList();
     }
 
+    /**
+     * Starts a new game with the same interface nodes, win streak and hard mode choice
+     *
+     * @return the new secret word
+     */
+    public String restart() { return game.restart(); }
+
     /** Increments row value by 1 -> going to a new guess after checking some guess */
-    public void incrementRow() {
-        this.row++;
-    }
+    public void incrementRow() { game.incrementRow(); }
 
     /** Increments column value by 1 -> typing letter */
-    public void incrementColumn() {
-        this.column++;
-    }
+    public void incrementColumn() { game.incrementColumn(); }
 
     /** Decreases column value by 1 -> deleting letter */
-    public void decrementColumn() { this.column--; }
+    public void decrementColumn() { game.decrementColumn(); }
 
     /**
      * @return row value
      */
-    public int getRow() {
-        return this.row;
-    }
+    public int getRow() { return game.getRow(); }
 
     /**
      * @return column value
      */
-    public int getColumn() {
-        return this.column;
-    }
+    public int getColumn() { return game.getColumn(); }
 
     /**
      * Sets new column
      * @param col - new value for column
      */
-    public void setColumn(int col) { this.column = col; }
+    public void setColumn(int col) { game.setColumn(col); }
 
     /**
      * Increments the win streak by one
      */
-    public void incrementCurrentWinStreak() { this.currentWinStreak++; }
+    public void incrementCurrentWinStreak() { game.incrementCurrentWinStreak(); }
 
     /**
      * Increments the current guess
      */
-    public void incrementCurrentGuessNumber() { this.currentGuessNumber++; }
+    public void incrementCurrentGuessNumber() { game.incrementCurrentGuessNumber(); }
 
     /**
      * @param index - index of guess tile
@@ -0,0 +1,486 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 10:20 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.server
+ * Class: GameServer
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import main.main.CompiledDictionary;
+import main.main.DailyPuzzle;
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+import main.model.LetterConstraint;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves the game over HTTP, so many players can share one JVM and its word
+ * lists. Every player has a compact {@link GameSession} in a bounded
+ * {@link SessionStore}, guesses follow the rules of {@link Feedback} like the
+ * interface does, and all games of a mode share the cached words from
+ * {@link DictionaryRegistry}. Requests are handled by a fixed pool of daemon
+ * threads, and guesses on different games never wait for each other.
+ * <pre>
+ * POST /games?length=5[&amp;hard=true]         starts a game
+ *      [&amp;daily=true | &amp;seed=42[&amp;puzzle=7]]   with the daily puzzle, or a puzzle of a seed
+ * GET  /games/{id}                           state of a game
+ * POST /games/{id}/guesses?word=crane        submits a guess (or the word as the body)
+ * POST /games/{id}/restart                   starts a new game, keeping the win streak
+ * GET  /stats                                sessions kept, evicted, and their memory
+ * </pre>
+ * Every response is a JSON object, with an "error" field when the request failed.
+ */
+public class GameServer {
+
+    /** Port used when none is given, can be changed with -Dwordfx.server.port */
+    public static final int DEFAULT_PORT = Integer.getInteger("wordfx.server.port", 8080);
+
+    /** Path every request starts with */
+    private static final String GAMES_PATH = "/games";
+
+    /** Path of the guesses of a game, after its id */
+    private static final String GUESSES_PATH = "/guesses";
+
+    /** Path to restart a game, after its id */
+    private static final String RESTART_PATH = "/restart";
+
+    /** Path of the server statistics */
+    private static final String STATS_PATH = "/stats";
+
+    /** Maximum number of sessions kept, can be changed with -Dwordfx.server.maxSessions */
+    private static final int MAX_SESSIONS = Integer.getInteger("wordfx.server.maxSessions", 100_000);
+
+    /** Seconds a session can go unused before it is evicted, can be changed with -Dwordfx.server.idleSeconds */
+    private static final int MAX_IDLE_SECONDS = Integer.getInteger("wordfx.server.idleSeconds", 900);
+
+    /** Scratch hints of each request thread to check hard mode guesses, by word length */
+    private static final ThreadLocal<LetterConstraint[]> HINTS =
+            ThreadLocal.withInitial(() -> new LetterConstraint[PackedWordSet.MAX_WORD_LENGTH + 1]);
+
+    /** Word length of a game when none is requested */
+    private static final int DEFAULT_WORD_LENGTH = 5;
+
+    /** Every word length a game can have, those with word files */
+    private static final int[] WORD_LENGTHS = ReadWordsFiles.getWordLengths();
+
+    /** Connections waiting to be accepted before new ones are refused */
+    private static final int BACKLOG = 1024;
+
+    /** Property of the JDK server turning on TCP_NODELAY for its connections */
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    static {
+        // The JDK server writes the headers and the body of a response separately, so without
+        // TCP_NODELAY every response waits about 40 ms for the client to acknowledge the headers
+        if (System.getProperty(NODELAY_PROPERTY) == null) { System.setProperty(NODELAY_PROPERTY, "true"); }
+    }
+
+    /** The HTTP server itself */
+    private final HttpServer server;
+
+    /** Threads handling the requests */
+    private final ExecutorService executor;
+
+    /** Evicts idle sessions every few seconds */
+    private final ScheduledExecutorService sweeper;
+
+    /** Every session, by id */
+    private final SessionStore sessions;
+
+    /** Number of guesses submitted since the server started */
+    private final LongAdder guessCount;
+
+    /**
+     * Creates a server, not started yet, with the default session limits
+     *
+     * @param port - port to listen on, 0 for any free port
+     * @param threads - number of threads handling requests
+     * @throws IOException if the port can't be bound
+     */
+    public GameServer(int port, int threads) throws IOException {
+        this(port, threads, new SessionStore(MAX_SESSIONS, MAX_IDLE_SECONDS));
+    }
+
+    /**
+     * Creates a server, not started yet
+     *
+     * @param port - port to listen on, 0 for any free port
+     * @param threads - number of threads handling requests
+     * @param sessions - store keeping the sessions of the players
+     * @throws IOException if the port can't be bound
+     */
+    public GameServer(int port, int threads, SessionStore sessions) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(port), BACKLOG);
+        this.executor = Executors.newFixedThreadPool(threads, daemonThreads("wordfx-http-"));
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(daemonThreads("wordfx-sweeper-"));
+        this.sessions = sessions;
+        this.guessCount = new LongAdder();
+
+        this.server.setExecutor(executor);
+        this.server.createContext(GAMES_PATH, this::handle);
+        this.server.createContext(STATS_PATH, this::handleStats);
+    }
+
+    /**
+     * Starts accepting requests, and evicting idle sessions
+     */
+    public void start() {
+        server.start();
+        sweeper.scheduleWithFixedDelay(sessions::evictIdle, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops accepting requests and waits up to a second for the ones being handled
+     */
+    public void stop() {
+        server.stop(0);
+        sweeper.shutdownNow();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return port the server listens on
+     */
+    public int getPort() { return server.getAddress().getPort(); }
+
+    /**
+     * @return store keeping the sessions of the players
+     */
+    public SessionStore getSessions() { return sessions; }
+
+    /**
+     * @return number of guesses submitted since the server started
+     */
+    public long getGuessCount() { return guessCount.sum(); }
+
+
+    /**
+     * Routes a request to the matching endpoint, and turns any failure into an error response
+     *
+     * @param exchange - the request and its response
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            String method = exchange.getRequestMethod();
+            String rest = path.substring(GAMES_PATH.length());
+
+            if (rest.isEmpty() || rest.equals("/")) {
+                if (!method.equals("POST")) { throw new RequestException(405, "Use POST to start a game"); }
+                startGame(exchange);
+            }
+            else if (rest.endsWith(GUESSES_PATH)) {
+                if (!method.equals("POST")) { throw new RequestException(405, "Use POST to submit a guess"); }
+                submitGuess(exchange, parseId(rest.substring(1, rest.length() - GUESSES_PATH.length())));
+            }
+            else if (rest.endsWith(RESTART_PATH)) {
+                if (!method.equals("POST")) { throw new RequestException(405, "Use POST to restart a game"); }
+                restartGame(exchange, parseId(rest.substring(1, rest.length() - RESTART_PATH.length())));
+            }
+            else {
+                if (!method.equals("GET")) { throw new RequestException(405, "Use GET to see a game"); }
+                GameSession session = findSession(parseId(rest.substring(1)));
+                StringBuilder json;
+                synchronized (session) { json = sessionJson(session).append('}'); }
+                send(exchange, 200, json);
+            }
+        } catch (RequestException e) {
+            send(exchange, e.status, new StringBuilder("{\"error\":\"").append(e.getMessage()).append("\"}"));
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            send(exchange, 500, new StringBuilder("{\"error\":\"Internal error\"}"));
+        }
+    }
+
+    /**
+     * Starts a game with a random secret word of the requested length
+     */
+    private void startGame(HttpExchange exchange) throws IOException {
+        String lengthParam = queryParam(exchange, "length");
+        int wordLength;
+        try {
+            wordLength = lengthParam == null ? DEFAULT_WORD_LENGTH : Integer.parseInt(lengthParam);
+        } catch (NumberFormatException e) {
+            throw new RequestException(400, "Length must be a number");
+        }
+        if (Arrays.binarySearch(WORD_LENGTHS, wordLength) < 0) {
+            throw new RequestException(400, "Length must be one of " + Arrays.toString(WORD_LENGTHS));
+        }
+
+        GameSession session = sessions.create(wordLength, Boolean.parseBoolean(queryParam(exchange, "hard")),
+                chooseSecret(exchange, wordLength));
+        StringBuilder json;
+        synchronized (session) { json = sessionJson(session).append('}'); }
+        send(exchange, 201, json);
+    }
+
+    /**
+     * Starts a new game in a session, once its game is over
+     */
+    private void restartGame(HttpExchange exchange, long id) throws IOException {
+        GameSession session = findSession(id);
+        StringBuilder json;
+        synchronized (session) {
+            if (session.getGameState().isPlayable()) { throw new RequestException(409, "Game is not over"); }
+            session.restart(randomSecret(session.getWordLength()));
+            json = sessionJson(session).append('}');
+        }
+        send(exchange, 200, json);
+    }
+
+    /**
+     * Sends the statistics of the sessions
+     */
+    private void handleStats(HttpExchange exchange) throws IOException {
+        StringBuilder json = new StringBuilder(256)
+                .append("{\"liveSessions\":").append(sessions.getLiveSessions())
+                .append(",\"maxSessions\":").append(sessions.getMaxSessions())
+                .append(",\"created\":").append(sessions.getCreated())
+                .append(",\"idleEvictions\":").append(sessions.getIdleEvictions())
+                .append(",\"sizeEvictions\":").append(sessions.getSizeEvictions())
+                .append(",\"bytesPerSession\":").append(sessions.getBytesPerSession())
+                .append(",\"estimatedBytes\":").append(sessions.getEstimatedBytes())
+                .append(",\"guesses\":").append(getGuessCount())
+                .append('}');
+        send(exchange, 200, json);
+    }
+
+    /**
+     * @return the secret word of the daily or seeded puzzle requested, or a random one, packed
+     */
+    private static long chooseSecret(HttpExchange exchange, int wordLength) {
+        long seed;
+        long puzzleNumber;
+        try {
+            if (Boolean.parseBoolean(queryParam(exchange, "daily"))) {
+                seed = DailyPuzzle.DAILY_SEED;
+                puzzleNumber = DailyPuzzle.getPuzzleNumber(DailyPuzzle.today());
+            }
+            else if (queryParam(exchange, "seed") != null) {
+                seed = Long.parseLong(queryParam(exchange, "seed"));
+                String puzzleParam = queryParam(exchange, "puzzle");
+                puzzleNumber = puzzleParam == null ? 0 : Long.parseLong(puzzleParam);
+            }
+            else {
+                return randomSecret(wordLength);
+            }
+        } catch (NumberFormatException e) {
+            throw new RequestException(400, "Seed and puzzle must be numbers");
+        }
+
+        CompiledDictionary secretWords = DictionaryRegistry.getSecretDictionary(wordLength);
+        return secretWords.packedWord(DailyPuzzle.indexOf(puzzleNumber, secretWords.size(), seed));
+    }
+
+    /**
+     * @return a random secret word of the given length, packed
+     */
+    private static long randomSecret(int wordLength) {
+        CompiledDictionary secretWords = DictionaryRegistry.getSecretDictionary(wordLength);
+        return secretWords.packedWord(ThreadLocalRandom.current().nextInt(secretWords.size()));
+    }
+
+    /**
+     * Checks a guess like the interface does, then submits it and sends its feedback
+     */
+    private void submitGuess(HttpExchange exchange, long id) throws IOException {
+        String word = queryParam(exchange, "word");
+        if (word == null) { word = readBody(exchange); }
+        char[] guess = word.trim().toCharArray();
+
+        GameSession session = findSession(id);
+        StringBuilder json;
+        synchronized (session) {
+            int wordLength = session.getWordLength();
+            if (!session.getGameState().isPlayable()) { throw new RequestException(409, "Game is over"); }
+            if (guess.length != wordLength) { throw new RequestException(400, "Guess must have " + wordLength + " letters"); }
+
+            long packed = PackedWordSet.pack(guess, 0, guess.length);
+            if (!DictionaryRegistry.getAllowedWords(wordLength).containsPacked(packed)) {
+                throw new RequestException(400, "Invalid word");
+            }
+            String missingHint = session.describeMissingHint(guess, hints(wordLength));
+            if (missingHint != null) { throw new RequestException(400, missingHint); }
+
+            int pattern = session.submitGuess(packed);
+            json = sessionJson(session)
+                    .append(",\"guess\":\"").append(PackedWordSet.unpack(packed))
+                    .append("\",\"feedback\":\"").append(Feedback.decodePattern(pattern, wordLength))
+                    .append("\"}");
+        }
+        guessCount.increment();
+        send(exchange, 200, json);
+    }
+
+    /**
+     * @return the session with the given id
+     * @throws RequestException if there is no such session, or it was evicted
+     */
+    private GameSession findSession(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) { throw new RequestException(404, "No game " + id); }
+        return session;
+    }
+
+    /**
+     * @return scratch hints of this thread for the word length
+     */
+    private static LetterConstraint hints(int wordLength) {
+        LetterConstraint[] hints = HINTS.get();
+        if (hints[wordLength] == null) { hints[wordLength] = new LetterConstraint(wordLength); }
+        return hints[wordLength];
+    }
+
+    /**
+     * @return the fields every response about a game has, without the closing brace
+     */
+    private static StringBuilder sessionJson(GameSession session) {
+        StringBuilder json = new StringBuilder(160)
+                .append("{\"id\":").append(session.getId())
+                .append(",\"length\":").append(session.getWordLength())
+                .append(",\"hard\":").append(session.isHardMode())
+                .append(",\"state\":\"").append(session.getGameState())
+                .append("\",\"guesses\":").append(session.getGuessCount())
+                .append(",\"streak\":").append(session.getWinStreak());
+        // The secret word is only given away once it can't be guessed anymore
+        if (!session.getGameState().isPlayable()) { json.append(",\"secret\":\"").append(session.getSecretWord()).append('"'); }
+        return json;
+    }
+
+    /**
+     * @return the game id in a path segment
+     * @throws RequestException if it is not a number
+     */
+    private static long parseId(String segment) {
+        try {
+            return Long.parseLong(segment);
+        } catch (NumberFormatException e) {
+            throw new RequestException(404, "No such path");
+        }
+    }
+
+    /**
+     * @return value of a query parameter of the request, or null if it is missing
+     */
+    private static String queryParam(HttpExchange exchange, String name) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) { return null; }
+        for (String pair : query.split("&")) {
+            int equals = pair.indexOf('=');
+            if (equals == name.length() && pair.startsWith(name)) {
+                return URLDecoder.decode(pair.substring(equals + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the body of the request, as text
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Sends a JSON response and closes the exchange
+     */
+    private static void send(HttpExchange exchange, int status, CharSequence json) throws IOException {
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream body = exchange.getResponseBody()) {
+            body.write(bytes);
+        }
+    }
+
+    /**
+     * @param name - prefix of the thread names
+     * @return factory of daemon threads, so the server never keeps the JVM alive
+     */
+    private static ThreadFactory daemonThreads(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * A request that can't be served, with the HTTP status to answer it with
+     */
+    private static class RequestException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        /** HTTP status of the response */
+        private final int status;
+
+        RequestException(int status, String message) {
+            super(message.replace("\"", "'"));
+            this.status = status;
+        }
+    }
+
+    /**
+     * Starts a server and keeps it running until the JVM is stopped.
+     * Run with: gradle run -PmainClass=main.server.GameServer
+     *
+     * @param args - optional port and number of threads
+     * @throws IOException if the port can't be bound
+     * @throws InterruptedException if the main thread is interrupted while serving
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+
+        // Read the word files before the first player shows up
+        for (int wordLength : WORD_LENGTHS) {
+            DictionaryRegistry.preload(wordLength).join();
+        }
+
+        GameServer server = new GameServer(port, threads);
+        server.start();
+        System.out.println("WordFX server listening on http://localhost:" + server.getPort() + GAMES_PATH
+                + " with " + threads + " threads");
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,202 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 11:30 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.server
+ * Class: GameSession
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.server;
+
+import main.main.PackedWordSet;
+import main.model.Feedback;
+import main.model.GameState;
+import main.model.LetterConstraint;
+import main.model.WordleGame;
+
+/**
+ * The game of one player of the server, kept as small as possible: the secret
+ * word and every guess packed into longs as in {@link PackedWordSet}, their
+ * patterns as ints, and a few counters. Unlike {@link WordleGame} there are no
+ * strings, readers or scratch buffers, so a server can hold a lot of them.
+ * Callers synchronize on the session while they use it.
+ */
+public class GameSession {
+
+    /**
+     * Approximate heap used by a session in a {@link SessionStore}, with compressed
+     * references: the session itself (64 bytes), its guesses (64) and patterns (40),
+     * its map entry (32), its boxed id (16) and its slot in the map table (8)
+     */
+    public static final int ESTIMATED_BYTES = 224;
+
+    /** Id of the session */
+    private final long id;
+
+    /** Length of the words of the game */
+    private final int wordLength;
+
+    /** True if every guess must reuse the hints revealed so far */
+    private final boolean hardMode;
+
+    /** The packed secret word */
+    private long secret;
+
+    /** Every packed guess submitted so far, by row */
+    private final long[] guesses;
+
+    /** Feedback pattern of every guess submitted so far, by row */
+    private final int[] patterns;
+
+    /** Number of guesses submitted so far */
+    private int guessCount;
+
+    /** The current state of the game */
+    private GameState gameState;
+
+    /** Number of games won in a row in this session */
+    private int winStreak;
+
+    /** Last time the session was used, from {@link System#nanoTime()} */
+    private volatile long lastAccess;
+
+    /**
+     * Creates a session with a new game
+     *
+     * @param id - id of the session
+     * @param wordLength - length of the words of the game
+     * @param hardMode - true if every guess must reuse the hints revealed so far
+     * @param secret - the packed secret word
+     */
+    public GameSession(long id, int wordLength, boolean hardMode, long secret) {
+        this.id = id;
+        this.wordLength = wordLength;
+        this.hardMode = hardMode;
+        this.guesses = new long[WordleGame.MAX_GUESSES];
+        this.patterns = new int[WordleGame.MAX_GUESSES];
+        restart(secret);
+    }
+
+    /**
+     * Starts a new game in the session, keeping its win streak
+     *
+     * @param secret - the new packed secret word
+     */
+    public void restart(long secret) {
+        this.secret = secret;
+        this.guessCount = 0;
+        this.gameState = GameState.NEW_GAME;
+        touch();
+    }
+
+    /**
+     * Submits a guess, like {@link WordleGame#submitGuess(String)}. The guess is
+     * not checked against the allowed words or the hard mode hints.
+     *
+     * @param guess - the packed guess
+     * @return feedback pattern of the guess, packed as in {@link Feedback}
+     */
+    public int submitGuess(long guess) {
+        if (!gameState.isPlayable()) { throw new IllegalStateException("Game is over"); }
+
+        int pattern = Feedback.evaluate(secret, guess, wordLength);
+        guesses[guessCount] = guess;
+        patterns[guessCount] = pattern;
+        guessCount++;
+
+        if (pattern == Feedback.winningPattern(wordLength)) {
+            gameState = GameState.GAME_WINNER;
+            winStreak++;
+        }
+        else if (guessCount == WordleGame.MAX_GUESSES) {
+            gameState = GameState.GAME_LOSER;
+            winStreak = 0;
+        }
+        else {
+            gameState = GameState.GAME_IN_PROGRESS;
+        }
+        return pattern;
+    }
+
+    /**
+     * Checks the hard mode rule against the hints revealed by every guess so far
+     *
+     * @param guess - buffer holding the guess, in upper or lowercase
+     * @param hints - scratch constraint for this word length, overwritten by this call
+     * @return what the guess is missing, or null if it may be submitted
+     */
+    public String describeMissingHint(char[] guess, LetterConstraint hints) {
+        if (!hardMode) { return null; }
+
+        hints.reset();
+        for (int row = 0; row < guessCount; row++) { hints.addRevealed(guesses[row], patterns[row]); }
+        return hints.describeMismatch(guess, 0, guess.length);
+    }
+
+    /**
+     * Remembers that the session was just used, so it is not evicted for being idle
+     */
+    public void touch() { lastAccess = System.nanoTime(); }
+
+    /**
+     * @return last time the session was used, from {@link System#nanoTime()}
+     */
+    public long getLastAccess() { return lastAccess; }
+
+    /**
+     * @return id of the session
+     */
+    public long getId() { return id; }
+
+    /**
+     * @return length of the words of the game
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return true if every guess must reuse the hints revealed so far
+     */
+    public boolean isHardMode() { return hardMode; }
+
+    /**
+     * @return the secret word, in lowercase
+     */
+    public String getSecretWord() { return PackedWordSet.unpack(secret); }
+
+    /**
+     * @return number of guesses submitted so far
+     */
+    public int getGuessCount() { return guessCount; }
+
+    /**
+     * @param row - row of a guess already submitted
+     * @return the packed guess submitted on that row
+     */
+    public long getGuess(int row) { return guesses[row]; }
+
+    /**
+     * @param row - row of a guess already submitted
+     * @return the feedback pattern of the guess submitted on that row
+     */
+    public int getPattern(int row) { return patterns[row]; }
+
+    /**
+     * @return the state of the game
+     */
+    public GameState getGameState() { return gameState; }
+
+    /**
+     * @return number of games won in a row in this session
+     */
+    public int getWinStreak() { return winStreak; }
+}
@@ -0,0 +1,230 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 10:55 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.server
+ * Class: LoadTestClient
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.server;
+
+import main.main.DictionaryRegistry;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Plays games against a {@link GameServer} from many threads at once for a
+ * while, guessing random secret words until every game is over, and reports
+ * the guesses per second and the latency of the guess requests. When no
+ * server address is given, a server is started in the same JVM.
+ */
+public class LoadTestClient {
+
+    /** Address of the games endpoint, for example http://localhost:8080/games */
+    private final String gamesUrl;
+
+    /** Length of the words of every game */
+    private final int wordLength;
+
+    /** Words guessed at random, all allowed guesses */
+    private final List<String> words;
+
+    /** Latency of every guess request of each thread, in nanoseconds */
+    private long[][] latencies;
+
+    /** Number of guesses each thread submitted */
+    private int[] guessCounts;
+
+    /** Number of requests each thread saw fail */
+    private int[] errorCounts;
+
+    /** Time the last run took, in nanoseconds */
+    private long elapsedNanos;
+
+    /**
+     * Creates a client for a running server
+     *
+     * @param gamesUrl - address of the games endpoint
+     * @param wordLength - length of the words of every game
+     */
+    public LoadTestClient(String gamesUrl, int wordLength) {
+        this.gamesUrl = gamesUrl;
+        this.wordLength = wordLength;
+        this.words = DictionaryRegistry.getSecretWords(wordLength);
+    }
+
+    /**
+     * Plays games from every thread until the time is up
+     *
+     * @param threads - number of players at once
+     * @param seconds - how long to play for
+     * @throws InterruptedException if interrupted while waiting for the players
+     */
+    public void run(int threads, double seconds) throws InterruptedException {
+        latencies = new long[threads][];
+        guessCounts = new int[threads];
+        errorCounts = new int[threads];
+
+        long start = System.nanoTime();
+        long deadline = start + (long) (seconds * 1e9);
+        Thread[] players = new Thread[threads];
+        for (int t = 0; t < threads; t++) {
+            int player = t;
+            players[t] = new Thread(() -> play(player, deadline), "wordfx-load-" + t);
+            players[t].start();
+        }
+        for (Thread player : players) { player.join(); }
+        elapsedNanos = System.nanoTime() - start;
+    }
+
+    /**
+     * Plays games one after the other until the deadline, keeping the
+     * latency of every guess in its own buffer
+     */
+    private void play(int player, long deadline) {
+        long[] playerLatencies = new long[1 << 16];
+        int guesses = 0;
+        int errors = 0;
+
+        while (System.nanoTime() < deadline) {
+            try {
+                String game = post(gamesUrl + "?length=" + wordLength);
+                String guessUrl = gamesUrl + "/" + field(game, "id") + "/guesses?word=";
+
+                String state = field(game, "state");
+                while (!state.equals("GAME_WINNER") && !state.equals("GAME_LOSER")) {
+                    String word = words.get(ThreadLocalRandom.current().nextInt(words.size()));
+                    long sent = System.nanoTime();
+                    String response = post(guessUrl + word);
+                    if (guesses == playerLatencies.length) {
+                        playerLatencies = Arrays.copyOf(playerLatencies, guesses * 2);
+                    }
+                    playerLatencies[guesses++] = System.nanoTime() - sent;
+                    state = field(response, "state");
+                }
+            } catch (IOException | RuntimeException e) {
+                errors++;
+            }
+        }
+        latencies[player] = Arrays.copyOf(playerLatencies, guesses);
+        guessCounts[player] = guesses;
+        errorCounts[player] = errors;
+    }
+
+    /**
+     * Sends an empty POST request. Connections are kept open and reused by
+     * the JDK between requests of the same thread.
+     *
+     * @return body of the response
+     * @throws IOException if the request failed or was not answered with a 2xx status
+     */
+    private static String post(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod("POST");
+        int status = connection.getResponseCode();
+        try (InputStream body = status / 100 == 2 ? connection.getInputStream() : connection.getErrorStream()) {
+            String text = new String(body.readAllBytes(), StandardCharsets.UTF_8);
+            if (status / 100 != 2) { throw new IOException("HTTP " + status + ": " + text); }
+            return text;
+        }
+    }
+
+    /**
+     * @return value of a field of a flat JSON object from the server, without its quotes
+     */
+    static String field(String json, String name) {
+        int start = json.indexOf("\"" + name + "\":");
+        if (start < 0) { throw new IllegalArgumentException("No " + name + " in " + json); }
+        start += name.length() + 3;
+        if (json.charAt(start) == '"') { return json.substring(start + 1, json.indexOf('"', start + 1)); }
+
+        int end = start;
+        while (end < json.length() && json.charAt(end) != ',' && json.charAt(end) != '}') { end++; }
+        return json.substring(start, end);
+    }
+
+    /**
+     * @return number of guesses submitted during the last run
+     */
+    public long getGuessCount() { return Arrays.stream(guessCounts).asLongStream().sum(); }
+
+    /**
+     * @return number of requests that failed during the last run
+     */
+    public long getErrorCount() { return Arrays.stream(errorCounts).asLongStream().sum(); }
+
+    /**
+     * @return guesses submitted per second during the last run
+     */
+    public double getGuessesPerSecond() { return getGuessCount() * 1e9 / elapsedNanos; }
+
+    /**
+     * @param percentile - percentile between 0 and 100
+     * @return latency of a guess request at that percentile, in nanoseconds
+     */
+    public long getLatencyPercentile(double percentile) {
+        long[] all = Arrays.stream(latencies).flatMapToLong(Arrays::stream).sorted().toArray();
+        if (all.length == 0) { return 0; }
+
+        int index = (int) Math.ceil(percentile / 100 * all.length) - 1;
+        return all[Math.max(0, Math.min(index, all.length - 1))];
+    }
+
+    /**
+     * @return summary of the last run, for printing
+     */
+    public String summary() {
+        return String.format("%,d guesses in %.2f s (%,.0f guesses/s), latency p50 %.3f ms, p99 %.3f ms, %d errors%n",
+                getGuessCount(), elapsedNanos / 1e9, getGuessesPerSecond(),
+                getLatencyPercentile(50) / 1e6, getLatencyPercentile(99) / 1e6, getErrorCount());
+    }
+
+    /**
+     * Runs a load test and prints its summary. Without -Dwordfx.server.url a
+     * server is started in the same JVM on any free port.
+     * Run with: gradle run -PmainClass=main.server.LoadTestClient --args="32 10 5"
+     *
+     * @param args - optional number of threads, seconds and word length
+     * @throws IOException if the local server can't be started
+     * @throws InterruptedException if interrupted while waiting for the players
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : 32;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 10;
+        int wordLength = args.length > 2 ? Integer.parseInt(args[2]) : 5;
+
+        String url = System.getProperty("wordfx.server.url");
+        GameServer server = null;
+        if (url == null) {
+            DictionaryRegistry.preload(wordLength).join();
+            server = new GameServer(0, Runtime.getRuntime().availableProcessors() * 2);
+            server.start();
+            url = "http://localhost:" + server.getPort() + "/games";
+        }
+
+        LoadTestClient client = new LoadTestClient(url, wordLength);
+        System.out.println("Playing " + wordLength + "-letter games against " + url + " from " + threads
+                + " threads for " + seconds + " s");
+        client.run(threads, seconds);
+        System.out.print(client.summary());
+
+        if (server != null) { server.stop(); }
+    }
+}
@@ -0,0 +1,213 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 11:50 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.server
+ * Class: SessionStore
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.server;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Every {@link GameSession} of the server, by id, with a maximum number of
+ * sessions and a maximum idle time. Lookups never lock, and creating or removing
+ * a session only locks one bin of the map, so players don't wait for each other.
+ * <p>
+ * Sessions idle for too long are removed by {@link #evictIdle()}, which the
+ * server calls periodically, and are never returned by {@link #get(long)}. When
+ * the store is full, a new session replaces the least recently used one out of
+ * the first few the map iterates over, instead of scanning every session. A new
+ * session reserves its slot in a counter before it is added, so concurrent
+ * requests never push the store past its maximum.
+ */
+public class SessionStore {
+
+    /** Number of sessions looked at to pick one to evict when the store is full */
+    private static final int EVICTION_SAMPLES = 16;
+
+    /** Maximum number of sessions kept */
+    private final int maxSessions;
+
+    /** Time a session can go unused before it is evicted, in nanoseconds */
+    private final long maxIdleNanos;
+
+    /** Every session, by id */
+    private final ConcurrentHashMap<Long, GameSession> sessions;
+
+    /** Number of sessions kept, counting the ones being created that already reserved a slot */
+    private final AtomicInteger reserved;
+
+    /** Id of the next session */
+    private final AtomicLong nextId;
+
+    /** Number of sessions created */
+    private final LongAdder created;
+
+    /** Number of sessions evicted for being idle too long */
+    private final LongAdder idleEvictions;
+
+    /** Number of sessions evicted to make room for a new one */
+    private final LongAdder sizeEvictions;
+
+    /**
+     * Creates an empty store
+     *
+     * @param maxSessions - maximum number of sessions kept
+     * @param maxIdleSeconds - time a session can go unused before it is evicted, in seconds
+     */
+    public SessionStore(int maxSessions, double maxIdleSeconds) {
+        if (maxSessions <= 0) { throw new IllegalArgumentException("Store must hold at least one session"); }
+
+        this.maxSessions = maxSessions;
+        this.maxIdleNanos = (long) (maxIdleSeconds * 1e9);
+        this.sessions = new ConcurrentHashMap<>(Math.min(maxSessions, 1 << 16));
+        this.reserved = new AtomicInteger();
+        this.nextId = new AtomicLong(1);
+        this.created = new LongAdder();
+        this.idleEvictions = new LongAdder();
+        this.sizeEvictions = new LongAdder();
+    }
+
+    /**
+     * Creates a session with a new game, evicting another one first if the store is full
+     *
+     * @param wordLength - length of the words of the game
+     * @param hardMode - true if every guess must reuse the hints revealed so far
+     * @param secret - the packed secret word
+     * @return the new session
+     */
+    public GameSession create(int wordLength, boolean hardMode, long secret) {
+        // Reserve a slot first, so threads creating sessions together can't all pass a size check
+        int count = reserved.incrementAndGet();
+        while (count > maxSessions) {
+            // Sessions still being created hold slots too, wait for them to show up in the map
+            if (!evictLeastRecentlyUsed()) { Thread.onSpinWait(); }
+            count = reserved.get();
+        }
+
+        GameSession session = new GameSession(nextId.getAndIncrement(), wordLength, hardMode, secret);
+        sessions.put(session.getId(), session);
+        created.increment();
+        return session;
+    }
+
+    /**
+     * Looks up a session and marks it as used
+     *
+     * @param id - id of the session
+     * @return the session, or null if there is none or it was idle for too long
+     */
+    public GameSession get(long id) {
+        GameSession session = sessions.get(id);
+        if (session == null) { return null; }
+
+        if (isIdle(session, System.nanoTime())) {
+            if (remove(session)) { idleEvictions.increment(); }
+            return null;
+        }
+        session.touch();
+        return session;
+    }
+
+    /**
+     * Removes every session idle for too long
+     *
+     * @return number of sessions removed
+     */
+    public int evictIdle() {
+        long now = System.nanoTime();
+        int evicted = 0;
+        for (GameSession session : sessions.values()) {
+            if (isIdle(session, now) && remove(session)) { evicted++; }
+        }
+        idleEvictions.add(evicted);
+        return evicted;
+    }
+
+    /**
+     * Removes the least recently used session out of the first few the map
+     * iterates over, which are in hash order rather than a random sample
+     *
+     * @return true if a session was removed
+     */
+    private boolean evictLeastRecentlyUsed() {
+        GameSession oldest = null;
+        Iterator<GameSession> it = sessions.values().iterator();
+        for (int i = 0; i < EVICTION_SAMPLES && it.hasNext(); i++) {
+            GameSession session = it.next();
+            if (oldest == null || session.getLastAccess() - oldest.getLastAccess() < 0) { oldest = session; }
+        }
+        if (oldest == null || !remove(oldest)) { return false; }
+        sizeEvictions.increment();
+        return true;
+    }
+
+    /**
+     * Removes a session and frees its slot, unless another thread removed it first
+     *
+     * @return true if this call removed the session
+     */
+    private boolean remove(GameSession session) {
+        if (!sessions.remove(session.getId(), session)) { return false; }
+        reserved.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * @return true if the session went unused for too long
+     */
+    private boolean isIdle(GameSession session, long now) {
+        return now - session.getLastAccess() > maxIdleNanos;
+    }
+
+    /**
+     * @return number of sessions kept right now
+     */
+    public int getLiveSessions() { return sessions.size(); }
+
+    /**
+     * @return maximum number of sessions kept
+     */
+    public int getMaxSessions() { return maxSessions; }
+
+    /**
+     * @return number of sessions created
+     */
+    public long getCreated() { return created.sum(); }
+
+    /**
+     * @return number of sessions evicted for being idle too long
+     */
+    public long getIdleEvictions() { return idleEvictions.sum(); }
+
+    /**
+     * @return number of sessions evicted to make room for a new one
+     */
+    public long getSizeEvictions() { return sizeEvictions.sum(); }
+
+    /**
+     * @return approximate heap used by each session, in bytes
+     */
+    public int getBytesPerSession() { return GameSession.ESTIMATED_BYTES; }
+
+    /**
+     * @return approximate heap used by every session kept right now, in bytes
+     */
+    public long getEstimatedBytes() { return (long) getLiveSessions() * GameSession.ESTIMATED_BYTES; }
+}
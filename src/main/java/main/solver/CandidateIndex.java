@@ -0,0 +1,158 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 8:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.solver
+ * Class: CandidateIndex
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.solver;
+
+import main.model.Feedback;
+import main.model.LetterConstraint;
+
+import java.util.List;
+
+/**
+ * Bitset index over a word list, one bit per word. For every position and
+ * letter there is the set of words with that letter at that position, and for
+ * every letter and count the set of words containing the letter at least that
+ * many times. A {@link LetterConstraint} is then applied to a set of candidates
+ * with a few AND and AND NOT operations over whole longs, instead of evaluating
+ * the feedback against every word.
+ */
+public class CandidateIndex {
+
+    /** Length of the words in the index */
+    private final int wordLength;
+
+    /** The words, bit i of a set stands for word i */
+    private final List<String> words;
+
+    /** Number of longs in a set */
+    private final int blocks;
+
+    /** Words with each letter at each position, by position and then letter */
+    private final long[][][] letterAt;
+
+    /** Words with at least n copies of each letter, by letter and then n (1 to word length) */
+    private final long[][][] atLeast;
+
+    /**
+     * Builds the index of a word list
+     *
+     * @param words - the words, all of the same length
+     */
+    public CandidateIndex(List<String> words) {
+        this.words = words;
+        this.wordLength = words.isEmpty() ? 0 : words.get(0).length();
+        this.blocks = (words.size() + Long.SIZE - 1) / Long.SIZE;
+        this.letterAt = new long[wordLength][Feedback.ALPHABET_SIZE][blocks];
+        this.atLeast = new long[Feedback.ALPHABET_SIZE][wordLength + 1][blocks];
+
+        int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+        for (int w = 0; w < words.size(); w++) {
+            byte[] word = Feedback.toLetters(words.get(w));
+            long bit = 1L << w;
+            for (int i = 0; i < wordLength; i++) {
+                letterAt[i][word[i]][w >>> 6] |= bit;
+                atLeast[word[i]][++letterCounts[word[i]]][w >>> 6] |= bit;
+            }
+            for (int i = 0; i < wordLength; i++) { letterCounts[word[i]] = 0; }
+        }
+    }
+
+    /**
+     * @return a set with every word of the index
+     */
+    public long[] all() {
+        long[] set = new long[blocks];
+        for (int b = 0; b < blocks; b++) { set[b] = -1L; }
+        if (words.size() % Long.SIZE != 0) { set[blocks - 1] = (1L << words.size()) - 1; }
+        return set;
+    }
+
+    /**
+     * Removes every word that doesn't match a constraint from a set
+     *
+     * @param constraint - feedback revealed so far
+     * @param set - set of words, changed in place
+     */
+    public void apply(LetterConstraint constraint, long[] set) {
+        for (int i = 0; i < wordLength; i++) {
+            int allowed = constraint.getAllowedLetters(i);
+            if (allowed == LetterConstraint.ALL_LETTERS) { continue; }
+
+            if (Integer.bitCount(allowed) == 1) {
+                and(set, letterAt[i][Integer.numberOfTrailingZeros(allowed)]);
+            }
+            else {
+                // Usually only a few letters are ruled out at a position
+                for (int excluded = ~allowed & LetterConstraint.ALL_LETTERS; excluded != 0; excluded &= excluded - 1) {
+                    andNot(set, letterAt[i][Integer.numberOfTrailingZeros(excluded)]);
+                }
+            }
+        }
+        for (int letter = 0; letter < Feedback.ALPHABET_SIZE; letter++) {
+            int min = constraint.getMinCount(letter);
+            int max = constraint.getMaxCount(letter);
+            if (min > 0) { and(set, atLeast[letter][min]); }
+            if (max < wordLength) { andNot(set, atLeast[letter][max + 1]); }
+        }
+    }
+
+    /**
+     * @param set - set of words
+     * @return number of words in the set
+     */
+    public static int count(long[] set) {
+        int count = 0;
+        for (long block : set) { count += Long.bitCount(block); }
+        return count;
+    }
+
+    /**
+     * Lists the words of a set
+     *
+     * @param set - set of words
+     * @param indices - filled with the index of every word in the set, in order
+     * @return number of words in the set
+     */
+    public static int toIndices(long[] set, int[] indices) {
+        int count = 0;
+        for (int b = 0; b < set.length; b++) {
+            for (long block = set[b]; block != 0; block &= block - 1) {
+                indices[count++] = b * Long.SIZE + Long.numberOfTrailingZeros(block);
+            }
+        }
+        return count;
+    }
+
+    private static void and(long[] set, long[] other) {
+        for (int b = 0; b < set.length; b++) { set[b] &= other[b]; }
+    }
+
+    private static void andNot(long[] set, long[] other) {
+        for (int b = 0; b < set.length; b++) { set[b] &= ~other[b]; }
+    }
+
+    /**
+     * @return length of the words in the index
+     */
+    public int getWordLength() { return wordLength; }
+
+    /**
+     * @return the words, in the order of their bits
+     */
+    public List<String> getWords() { return words; }
+}
@@ -0,0 +1,51 @@
+package main.solver;
+
+/**
+ * Simple class holding a guess suggested by the solver, how much
+ * information it is expected to give, and how many secret words
+ * are still possible before playing it
+ */
+public class Hint {
+
+    /** The suggested guess */
+    private final String guess;
+
+    /** Expected information of the guess, in bits */
+    private final double entropy;
+
+    /** Number of secret words still possible */
+    private final int remainingCandidates;
+
+    /**
+     * Simple constructor for a hint
+     *
+     * @param guess - the suggested guess
+     * @param entropy - expected information of the guess, in bits
+     * @param remainingCandidates - number of secret words still possible
+     */
+    public Hint(String guess, double entropy, int remainingCandidates) {
+        this.guess = guess;
+        this.entropy = entropy;
+        this.remainingCandidates = remainingCandidates;
+    }
+
+    /**
+     * @return the suggested guess
+     */
+    public String getGuess() { return guess; }
+
+    /**
+     * @return expected information of the guess, in bits
+     */
+    public double getEntropy() { return entropy; }
+
+    /**
+     * @return number of secret words still possible
+     */
+    public int getRemainingCandidates() { return remainingCandidates; }
+
+    @Override
+    public String toString() {
+        return String.format("%s (%.2f bits, %d left)", guess.toUpperCase(), entropy, remainingCandidates);
+    }
+}
@@ -0,0 +1,236 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 5:10 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.solver
+ * Class: OpeningSearch
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.solver;
+
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores every allowed guess as a first guess, by the entropy of its feedback
+ * patterns over every secret word, and ranks them. Guesses are split across
+ * all cores with fork/join; each task has its own letter and pattern buffers
+ * and returns its own scores, so no state is shared between threads.
+ */
+public class OpeningSearch {
+
+    /** Guesses scored by a single task before it stops splitting */
+    private static final int GUESSES_PER_TASK = 64;
+
+    /** Length of the words being searched */
+    private final int wordLength;
+
+    /** Every guess to be scored */
+    private final List<String> guesses;
+
+    /** Letter indices of every guess */
+    private final byte[][] guessLetters;
+
+    /** Letter indices of every secret word */
+    private final byte[][] secretLetters;
+
+    /** Time the last search took, in nanoseconds */
+    private long elapsedNanos;
+
+    /**
+     * Creates a search over the given words
+     *
+     * @param wordLength - length of the words
+     * @param guesses - every guess to be scored
+     * @param secrets - every possible secret word
+     */
+    public OpeningSearch(int wordLength, List<String> guesses, List<String> secrets) {
+        this.wordLength = wordLength;
+        this.guesses = guesses;
+        this.guessLetters = toLetters(guesses);
+        this.secretLetters = toLetters(secrets);
+    }
+
+    /**
+     * Creates a search over the word files of the game for a given word length
+     *
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the search
+     */
+    public static OpeningSearch forWordLength(int wordLength) {
+        List<String> secrets = ReadWordsFiles.readWords(ReadWordsFiles.getSecretWordFile(wordLength));
+        List<String> guesses = ReadWordsFiles.readGuesses(ReadWordsFiles.getAllowedWordFile(wordLength), secrets);
+        return new OpeningSearch(wordLength, guesses, secrets);
+    }
+
+    /**
+     * Scores every guess in parallel and ranks them, best opening first
+     *
+     * @return every guess with its entropy, best first
+     */
+    public List<Hint> rank() {
+        long start = System.nanoTime();
+        double[] entropies = ForkJoinPool.commonPool().invoke(
+                new ScoreTask(guessLetters, secretLetters, wordLength, 0, guesses.size()));
+        elapsedNanos = System.nanoTime() - start;
+
+        ArrayList<Hint> ranking = new ArrayList<>(guesses.size());
+        for (int g = 0; g < entropies.length; g++) {
+            ranking.add(new Hint(guesses.get(g), entropies[g], secretLetters.length));
+        }
+        ranking.sort(Comparator.comparingDouble(Hint::getEntropy).reversed());
+        return ranking;
+    }
+
+    /**
+     * @return number of guess evaluations a search performs
+     */
+    public long getEvaluations() { return (long) guessLetters.length * secretLetters.length; }
+
+    /**
+     * @return time the last search took, in nanoseconds
+     */
+    public long getElapsedNanos() { return elapsedNanos; }
+
+    /**
+     * @return guess evaluations per second during the last search
+     */
+    public double getEvaluationsPerSecond() { return getEvaluations() * 1e9 / elapsedNanos; }
+
+    /**
+     * Scores a range of guesses, splitting it in half until it is small enough
+     */
+    private static class ScoreTask extends RecursiveTask<double[]> {
+
+        private static final long serialVersionUID = 1L;
+
+        /** Letter indices of every guess */
+        private final byte[][] guessLetters;
+
+        /** Letter indices of every secret word */
+        private final byte[][] secretLetters;
+
+        /** Length of the words */
+        private final int wordLength;
+
+        /** First guess of the range */
+        private final int from;
+
+        /** One past the last guess of the range */
+        private final int to;
+
+        ScoreTask(byte[][] guessLetters, byte[][] secretLetters, int wordLength, int from, int to) {
+            this.guessLetters = guessLetters;
+            this.secretLetters = secretLetters;
+            this.wordLength = wordLength;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected double[] compute() {
+            if (to - from <= GUESSES_PER_TASK) { return score(); }
+
+            int middle = (from + to) >>> 1;
+            ScoreTask left = new ScoreTask(guessLetters, secretLetters, wordLength, from, middle);
+            left.fork();
+            double[] right = new ScoreTask(guessLetters, secretLetters, wordLength, middle, to).compute();
+            double[] scores = new double[to - from];
+            System.arraycopy(left.join(), 0, scores, 0, middle - from);
+            System.arraycopy(right, 0, scores, middle - from, to - middle);
+            return scores;
+        }
+
+        /**
+         * @return entropy of every guess in the range, with buffers owned by this task
+         */
+        private double[] score() {
+            int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+            int[] histogram = new int[Feedback.patternCount(wordLength)];
+            double[] scores = new double[to - from];
+
+            for (int g = from; g < to; g++) {
+                for (int p = 0; p < histogram.length; p++) { histogram[p] = 0; }
+                for (byte[] secret : secretLetters) {
+                    histogram[Feedback.evaluate(secret, guessLetters[g], wordLength, letterCounts)]++;
+                }
+                scores[g - from] = entropy(histogram, secretLetters.length);
+            }
+            return scores;
+        }
+    }
+
+    /**
+     * @param histogram - number of secret words giving each pattern
+     * @param total - number of secret words
+     * @return entropy of the pattern distribution, in bits
+     */
+    static double entropy(int[] histogram, int total) {
+        double entropy = 0;
+        for (int count : histogram) {
+            if (count > 0) {
+                double probability = (double) count / total;
+                entropy -= probability * Math.log(probability);
+            }
+        }
+        return entropy / Math.log(2);
+    }
+
+    /**
+     * @return letter indices of every word
+     */
+    private static byte[][] toLetters(List<String> words) {
+        byte[][] letters = new byte[words.size()][];
+        for (int i = 0; i < letters.length; i++) { letters[i] = Feedback.toLetters(words.get(i)); }
+        return letters;
+    }
+
+    /**
+     * Ranks the openings of every mode and writes them to openings3.txt,
+     * openings4.txt and openings5.txt, one "rank guess entropy" line each.
+     * Run with: gradle run -PmainClass=main.solver.OpeningSearch
+     *
+     * @param args - optional output directory, build/openings by default
+     * @throws IOException if a ranking can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(args.length > 0 ? args[0] : "build/openings");
+        Files.createDirectories(directory);
+
+        for (int wordLength : ReadWordsFiles.getWordLengths()) {
+            OpeningSearch search = forWordLength(wordLength);
+            List<Hint> ranking = search.rank();
+
+            Path output = directory.resolve("openings" + wordLength + ".txt");
+            try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+                for (int rank = 0; rank < ranking.size(); rank++) {
+                    writer.printf("%d %s %.6f%n", rank + 1, ranking.get(rank).getGuess(), ranking.get(rank).getEntropy());
+                }
+            }
+            System.out.printf("%d letters: best opening %s, %,d evaluations in %.1f ms (%,.0f evaluations/s) -> %s%n",
+                    wordLength, ranking.get(0), search.getEvaluations(), search.getElapsedNanos() / 1e6,
+                    search.getEvaluationsPerSecond(), output);
+        }
+    }
+}
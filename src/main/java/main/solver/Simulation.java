@@ -0,0 +1,312 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 7:15 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.solver
+ * Class: Simulation
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.solver;
+
+import main.main.DictionaryRegistry;
+import main.main.ReadWordsFiles;
+import main.model.GameState;
+import main.model.WordleGame;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Plays a game for every secret word of a mode, with the solver choosing
+ * every guess, to measure how well the solver plays and how fast the game
+ * runs. Guesses go through the same checks as in the interface: the guess
+ * is checked against the allowed words from its letters, and against the
+ * revealed hints in hard mode, then submitted to
+ * the {@link WordleGame}, which evaluates it and updates the game state.
+ * Games are split across all cores, each game being played by a single thread.
+ */
+public class Simulation {
+
+    /** Length of the words being played */
+    private final int wordLength;
+
+    /** Secret word of every game to be played */
+    private final List<String> secrets;
+
+    /** Reader with the allowed guesses, shared by every game */
+    private final ReadWordsFiles reader;
+
+    /** True if every game is played in hard mode */
+    private final boolean hardMode;
+
+    /** Solver choosing the guesses */
+    private final WordleSolver solver;
+
+    /** Result of every game of the last run, in the order of the secret words */
+    private GameResult[] results;
+
+    /** Time the last run took, in nanoseconds */
+    private long elapsedNanos;
+
+    /**
+     * Creates a simulation over every secret word of a mode
+     *
+     * @param wordLength - word length to be played (3 to 12)
+     */
+    public Simulation(int wordLength) {
+        this(wordLength, DictionaryRegistry.getSecretWords(wordLength));
+    }
+
+    /**
+     * Creates a simulation over some secret words of a mode
+     *
+     * @param wordLength - word length to be played (3 to 12)
+     * @param secrets - secret word of every game to be played
+     */
+    public Simulation(int wordLength, List<String> secrets) {
+        this(wordLength, secrets, false);
+    }
+
+    /**
+     * Creates a simulation over some secret words of a mode
+     *
+     * @param wordLength - word length to be played (3 to 12)
+     * @param secrets - secret word of every game to be played
+     * @param hardMode - true if every guess must reuse the hints revealed so far
+     */
+    public Simulation(int wordLength, List<String> secrets, boolean hardMode) {
+        this.wordLength = wordLength;
+        this.secrets = secrets;
+        this.hardMode = hardMode;
+        this.reader = new ReadWordsFiles();
+        this.reader.createWordSet(ReadWordsFiles.getAllowedWordFile(wordLength));
+        this.solver = WordleSolver.forWordLength(wordLength);
+        this.results = new GameResult[0];
+    }
+
+    /**
+     * Plays every game in parallel
+     *
+     * @return result of every game, in the order of the secret words
+     */
+    public GameResult[] run() {
+        // Compute the opening guess once, rather than in every thread at the same time
+        solver.suggest(new String[0], new int[0]);
+
+        long start = System.nanoTime();
+        results = IntStream.range(0, secrets.size()).parallel()
+                .mapToObj(i -> play(secrets.get(i)))
+                .toArray(GameResult[]::new);
+        elapsedNanos = System.nanoTime() - start;
+        return results;
+    }
+
+    /**
+     * Plays a single game to the end
+     *
+     * @param secret - secret word of the game
+     * @return result of the game
+     */
+    public GameResult play(String secret) {
+        long start = System.nanoTime();
+        WordleGame game = new WordleGame(wordLength, secret, reader);
+        game.setHardMode(hardMode);
+        char[] letters = new char[wordLength];
+
+        while (game.getGameState().isPlayable()) {
+            String guess = solver.suggest(game).getGuess();
+            guess.getChars(0, wordLength, letters, 0);
+            if (!game.isAllowed(letters, 0, wordLength)) {
+                throw new IllegalStateException("Solver suggested " + guess + ", which is not an allowed guess");
+            }
+            if (!game.honorsRevealedHints(letters, 0, wordLength)) {
+                throw new IllegalStateException("Solver suggested " + guess + ": " + game.describeMissingHint(letters, 0, wordLength));
+            }
+            game.submitGuess(guess);
+        }
+
+        String[] guesses = new String[game.getRow()];
+        for (int row = 0; row < guesses.length; row++) { guesses[row] = game.getGuess(row); }
+        return new GameResult(secret, game.getGameState() == GameState.GAME_WINNER, guesses, System.nanoTime() - start);
+    }
+
+    /**
+     * @return fraction of the games of the last run that were won
+     */
+    public double getWinRate() {
+        long wins = Arrays.stream(results).filter(GameResult::isWon).count();
+        return results.length == 0 ? 0 : (double) wins / results.length;
+    }
+
+    /**
+     * @return number of games won in 1 to 6 guesses, at index 1 to 6, and lost, at index 0
+     */
+    public int[] getGuessHistogram() {
+        int[] histogram = new int[WordleGame.MAX_GUESSES + 1];
+        for (GameResult result : results) {
+            histogram[result.isWon() ? result.getGuessCount() : 0]++;
+        }
+        return histogram;
+    }
+
+    /**
+     * @return average number of guesses of the games that were won
+     */
+    public double getAverageGuesses() {
+        return Arrays.stream(results).filter(GameResult::isWon).mapToInt(GameResult::getGuessCount).average().orElse(0);
+    }
+
+    /**
+     * @return games played per second during the last run
+     */
+    public double getGamesPerSecond() { return results.length * 1e9 / elapsedNanos; }
+
+    /**
+     * @param percentile - between 0 and 100
+     * @return time a game took at the given percentile, in nanoseconds
+     */
+    public long getLatencyPercentile(double percentile) {
+        if (results.length == 0) { return 0; }
+
+        long[] latencies = Arrays.stream(results).mapToLong(GameResult::getNanos).sorted().toArray();
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+    }
+
+    /**
+     * @return summary of the last run, for printing
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder();
+        summary.append(String.format("%d-letter %smode: %d games in %.2f s (%,.0f games/s)%n",
+                wordLength, hardMode ? "hard " : "", results.length, elapsedNanos / 1e9, getGamesPerSecond()));
+        summary.append(String.format("  win rate %.2f%%, %.3f guesses per win%n", getWinRate() * 100, getAverageGuesses()));
+        summary.append(String.format("  latency per game p50 %.2f ms, p99 %.2f ms%n",
+                getLatencyPercentile(50) / 1e6, getLatencyPercentile(99) / 1e6));
+
+        int[] histogram = getGuessHistogram();
+        summary.append("  guesses:");
+        for (int guesses = 1; guesses <= WordleGame.MAX_GUESSES; guesses++) {
+            summary.append(' ').append(guesses).append('=').append(histogram[guesses]);
+        }
+        summary.append(" X=").append(histogram[0]).append(System.lineSeparator());
+        return summary.toString();
+    }
+
+    /**
+     * Writes the result of every game of the last run as CSV, one line per secret word
+     *
+     * @param file - where the CSV is written
+     * @throws IOException if the file can't be written
+     */
+    public void writeCsv(Path file) throws IOException {
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println("word,won,guesses,micros,sequence");
+            for (GameResult result : results) {
+                writer.printf("%s,%b,%d,%d,%s%n", result.getSecret(), result.isWon(), result.getGuessCount(),
+                        result.getNanos() / 1000, String.join(" ", result.getGuesses()));
+            }
+        }
+    }
+
+    /**
+     * Result of a single game
+     */
+    public static class GameResult {
+
+        /** Secret word of the game */
+        private final String secret;
+
+        /** True if the secret word was found */
+        private final boolean won;
+
+        /** Every guess, in order */
+        private final String[] guesses;
+
+        /** Time the game took, in nanoseconds */
+        private final long nanos;
+
+        /**
+         * Simple constructor for the result of a game
+         *
+         * @param secret - secret word of the game
+         * @param won - true if the secret word was found
+         * @param guesses - every guess, in order
+         * @param nanos - time the game took, in nanoseconds
+         */
+        public GameResult(String secret, boolean won, String[] guesses, long nanos) {
+            this.secret = secret;
+            this.won = won;
+            this.guesses = guesses;
+            this.nanos = nanos;
+        }
+
+        /**
+         * @return secret word of the game
+         */
+        public String getSecret() { return secret; }
+
+        /**
+         * @return true if the secret word was found
+         */
+        public boolean isWon() { return won; }
+
+        /**
+         * @return every guess, in order
+         */
+        public String[] getGuesses() { return guesses; }
+
+        /**
+         * @return number of guesses played
+         */
+        public int getGuessCount() { return guesses.length; }
+
+        /**
+         * @return time the game took, in nanoseconds
+         */
+        public long getNanos() { return nanos; }
+    }
+
+    /**
+     * Plays every secret word of the given modes, prints a summary of each mode
+     * and writes the result of every game to simulation3.csv, simulation4.csv
+     * and simulation5.csv (simulation5-hard.csv and so on in hard mode).
+     * Run with: gradle run -PmainClass=main.solver.Simulation --args="5 --hard"
+     *
+     * @param args - word lengths to be played, every one with word files by default, and --hard to play in hard mode
+     * @throws IOException if a CSV file can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        Path directory = Paths.get(System.getProperty("wordfx.simulation.dir", "build/simulation"));
+        Files.createDirectories(directory);
+
+        boolean hardMode = Arrays.asList(args).contains("--hard");
+        int[] wordLengths = Arrays.stream(args).filter(arg -> !arg.startsWith("--")).mapToInt(Integer::parseInt).toArray();
+        if (wordLengths.length == 0) { wordLengths = ReadWordsFiles.getWordLengths(); }
+
+        for (int wordLength : wordLengths) {
+            Simulation simulation = new Simulation(wordLength, DictionaryRegistry.getSecretWords(wordLength), hardMode);
+            simulation.run();
+            Path csv = directory.resolve("simulation" + wordLength + (hardMode ? "-hard" : "") + ".csv");
+            simulation.writeCsv(csv);
+            System.out.print(simulation.summary());
+            System.out.println("  results written to " + csv);
+        }
+    }
+}
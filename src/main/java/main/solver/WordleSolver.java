@@ -0,0 +1,251 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 4:05 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.solver
+ * Class: WordleSolver
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.solver;
+
+import main.main.PatternMatrix;
+import main.model.Feedback;
+import main.model.LetterConstraint;
+import main.model.WordleGame;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Suggests the guess that maximizes the expected information about the
+ * secret word: the Shannon entropy of the distribution of feedback patterns
+ * over the secret words still possible. Patterns come from the precomputed
+ * {@link PatternMatrix}, so scoring a guess is one table lookup per candidate,
+ * and the secret words still possible are found with a {@link CandidateIndex}.
+ */
+public class WordleSolver {
+
+    /** One solver per word length, shared by every game */
+    private static final Map<Integer, WordleSolver> SOLVERS = new ConcurrentHashMap<>();
+
+    /** Feedback pattern of every guess against every secret word */
+    private final PatternMatrix matrix;
+
+    /** Bitset index over the secret words, in the same order as the matrix columns */
+    private final CandidateIndex index;
+
+    /** Number of different patterns, 3^wordLength */
+    private final int patternCount;
+
+    /** Letter indices of every guess, to check them against the hard mode hints */
+    private final byte[][] guessLetters;
+
+    /** Row of each secret word in the matrix, to check if a guess can win */
+    private final int[] guessIndexOfSecret;
+
+    /** c * log2(c) for every count c up to the number of secret words */
+    private final double[] countLogCount;
+
+    /** Best first guess, only computed once since it never changes */
+    private volatile Hint openingHint;
+
+    /**
+     * Creates a solver over a pattern matrix
+     *
+     * @param matrix - feedback pattern of every guess against every secret word
+     */
+    public WordleSolver(PatternMatrix matrix) {
+        this.matrix = matrix;
+        this.patternCount = Feedback.patternCount(matrix.getWordLength());
+        this.index = new CandidateIndex(matrix.getSecrets());
+
+        this.guessLetters = new byte[matrix.getGuesses().size()][];
+        for (int g = 0; g < guessLetters.length; g++) { guessLetters[g] = Feedback.toLetters(matrix.getGuesses().get(g)); }
+
+        int secretCount = matrix.getSecrets().size();
+        this.guessIndexOfSecret = new int[secretCount];
+        for (int s = 0; s < secretCount; s++) {
+            guessIndexOfSecret[s] = matrix.indexOfGuess(matrix.getSecrets().get(s));
+        }
+        this.countLogCount = new double[secretCount + 1];
+        for (int c = 1; c <= secretCount; c++) {
+            countLogCount[c] = c * Math.log(c) / Math.log(2);
+        }
+    }
+
+    /**
+     * @param wordLength - word length user has chosen (3 to 12)
+     * @return the solver for the game's word files, created the first time it is asked for
+     */
+    public static WordleSolver forWordLength(int wordLength) {
+        return SOLVERS.computeIfAbsent(wordLength, length -> {
+            try {
+                return new WordleSolver(PatternMatrix.load(length));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Suggests the next guess for a game in progress, following the
+     * hard mode rule if the game is played in hard mode
+     *
+     * @param game - the game, with the guesses submitted so far
+     * @return the best guess, its expected information and the remaining candidates
+     */
+    public Hint suggest(WordleGame game) {
+        String[] guesses = new String[game.getRow()];
+        int[] patterns = new int[game.getRow()];
+        for (int row = 0; row < guesses.length; row++) {
+            guesses[row] = game.getGuess(row);
+            patterns[row] = game.getPattern(row);
+        }
+        return suggest(guesses, patterns, game.isHardMode());
+    }
+
+    /**
+     * Suggests the next guess given the history of a game
+     *
+     * @param guesses - guesses submitted so far
+     * @param patterns - feedback pattern of each of those guesses
+     * @return the best guess, its expected information and the remaining candidates
+     */
+    public Hint suggest(String[] guesses, int[] patterns) {
+        return suggest(guesses, patterns, false);
+    }
+
+    /**
+     * Suggests the next guess given the history of a game. In hard mode, only
+     * guesses that reuse every green and yellow revealed so far are considered.
+     *
+     * @param guesses - guesses submitted so far
+     * @param patterns - feedback pattern of each of those guesses
+     * @param hardMode - true if the guess must honor the revealed hints
+     * @return the best guess, its expected information and the remaining candidates
+     */
+    public Hint suggest(String[] guesses, int[] patterns, boolean hardMode) {
+        if (guesses.length == 0 && openingHint != null) { return openingHint; }
+
+        int[] candidates = new int[matrix.getSecrets().size()];
+        int count = filterCandidates(guesses, patterns, candidates);
+
+        LetterConstraint revealed = null;
+        if (hardMode && guesses.length > 0) {
+            revealed = new LetterConstraint(matrix.getWordLength());
+            for (int i = 0; i < guesses.length; i++) { revealed.addRevealed(Feedback.toLetters(guesses[i]), patterns[i]); }
+        }
+        Hint hint = bestGuess(candidates, count, revealed);
+
+        if (guesses.length == 0) { openingHint = hint; }
+        return hint;
+    }
+
+    /**
+     * Finds every secret word that would have given the same patterns to the same guesses
+     *
+     * @param guesses - guesses submitted so far
+     * @param patterns - feedback pattern of each of those guesses
+     * @param candidates - filled with the indices of the secret words still possible
+     * @return number of secret words still possible
+     */
+    public int filterCandidates(String[] guesses, int[] patterns, int[] candidates) {
+        LetterConstraint constraint = new LetterConstraint(matrix.getWordLength());
+        for (int i = 0; i < guesses.length; i++) { constraint.add(Feedback.toLetters(guesses[i]), patterns[i]); }
+        return filterCandidates(constraint, candidates);
+    }
+
+    /**
+     * Finds every secret word that matches the feedback revealed so far
+     *
+     * @param constraint - feedback revealed so far
+     * @param candidates - filled with the indices of the secret words still possible
+     * @return number of secret words still possible
+     */
+    public int filterCandidates(LetterConstraint constraint, int[] candidates) {
+        long[] set = index.all();
+        index.apply(constraint, set);
+        return CandidateIndex.toIndices(set, candidates);
+    }
+
+    /**
+     * Scores every guess against the candidates and keeps the one with the highest
+     * entropy. Ties go to guesses that are candidates themselves, since those can win.
+     *
+     * @param candidates - indices of the secret words still possible
+     * @param count - number of secret words still possible
+     * @return the best guess
+     */
+    public Hint bestGuess(int[] candidates, int count) {
+        return bestGuess(candidates, count, null);
+    }
+
+    /**
+     * Same as {@link #bestGuess(int[], int)}, only considering the guesses that match a constraint
+     *
+     * @param candidates - indices of the secret words still possible
+     * @param count - number of secret words still possible
+     * @param allowed - hints every guess must honor, or null to consider every guess
+     * @return the best guess
+     */
+    public Hint bestGuess(int[] candidates, int count, LetterConstraint allowed) {
+        if (count == 0) { throw new IllegalArgumentException("No secret word matches the guesses"); }
+
+        boolean[] isCandidate = new boolean[matrix.getGuesses().size()];
+        for (int i = 0; i < count; i++) { isCandidate[guessIndexOfSecret[candidates[i]]] = true; }
+
+        int[] histogram = new int[patternCount];
+        int best = guessIndexOfSecret[candidates[0]];
+        double bestEntropy = -1;
+        for (int g = 0; g < isCandidate.length; g++) {
+            if (allowed != null && !allowed.matches(guessLetters[g])) { continue; }
+            double entropy = entropy(g, candidates, count, histogram);
+            if (entropy > bestEntropy + 1e-9 || (Math.abs(entropy - bestEntropy) <= 1e-9 && isCandidate[g] && !isCandidate[best])) {
+                best = g;
+                bestEntropy = entropy;
+            }
+        }
+        return new Hint(matrix.getGuesses().get(best), bestEntropy, count);
+    }
+
+    /**
+     * Entropy of the feedback patterns a guess would get over the candidates:
+     * log2(n) - (1/n) * sum of c * log2(c) over the count c of every pattern
+     *
+     * @param guessIndex - row of the guess in the matrix
+     * @param candidates - indices of the secret words still possible
+     * @param count - number of secret words still possible
+     * @param histogram - scratch array with one slot per pattern, overwritten by this call
+     * @return expected information of the guess, in bits
+     */
+    public double entropy(int guessIndex, int[] candidates, int count, int[] histogram) {
+        for (int p = 0; p < histogram.length; p++) { histogram[p] = 0; }
+        for (int i = 0; i < count; i++) { histogram[matrix.pattern(guessIndex, candidates[i])]++; }
+
+        double sum = 0;
+        for (int p = 0; p < histogram.length; p++) { sum += countLogCount[histogram[p]]; }
+        return countLogCount[count] / count - sum / count;
+    }
+
+    /**
+     * @return bitset index over the secret words
+     */
+    public CandidateIndex getIndex() { return index; }
+
+    /**
+     * @return feedback pattern of every guess against every secret word
+     */
+    public PatternMatrix getMatrix() { return matrix; }
+}
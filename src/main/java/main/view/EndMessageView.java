@@ -108,6 +108,16 @@ public class EndMessageView {
         animateEndScreen();
     }
 
+    /**
+     * Takes the end screen off the tiles and empties it, so it can be shown
+     * again at the end of the next game
+     */
+    public void hideEndScreen() {
+        this.wordleView.getTileStack().getChildren().remove(this.winStackPane);
+        this.winStackPane.getChildren().clear();
+        this.endScreenHeader.getChildren().clear();
+    }
+
     /**
      * Sets the styles of each aspect of our end screen message
      */
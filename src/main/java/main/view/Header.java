@@ -38,6 +38,9 @@ public class Header {
     /** Setting icon button. */
     private Button darkModeButton;
 
+    /** Button asking the solver for the next guess. */
+    private Button hintButton;
+
     /**
      * @return the headerSection including title and separator
      */
@@ -48,6 +51,11 @@ public class Header {
      */
     public Button getDarkModeButton() { return darkModeButton; }
 
+    /**
+     * @return the button asking for a hint.
+     */
+    public Button getHintButton() { return hintButton; }
+
     /**
      * Simple constructor to initialize the title and header section, and their
      * respective css id's
@@ -69,12 +77,14 @@ public class Header {
     public void createHeader() {
         // Create all the button in the header.
         this.createDarkModeButton();
+        this.createHintButton();
 
         // Organize items in the header.
         this.headerSection.setBottom(new Separator());
 
         // Adjust position of things on header
         this.headerSection.setRight(this.darkModeButton);
+        this.headerSection.setLeft(this.hintButton);
         this.headerSection.setCenter(this.title);
     }
 
@@ -86,4 +96,13 @@ public class Header {
         darkModeButton = new Button();
         darkModeButton.getStyleClass().add("setting-button");
     }
+
+    /**
+     * Create a hint button to suggest the next guess to the user.
+     */
+    private void createHintButton() {
+        // Initialize a new button and add styling.
+        hintButton = new Button("?");
+        hintButton.getStyleClass().add("hint-button");
+    }
 }
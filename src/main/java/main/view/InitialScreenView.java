@@ -20,41 +20,83 @@ package main.view;
 
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
+import javafx.scene.control.ChoiceBox;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
 import javafx.scene.layout.*;
+import main.model.MultiBoardGame;
+
+import java.util.Map;
 
 /**
  * This class takes care of building the initial screen of the game
  */
 public class InitialScreenView {
 
+    /** Difficulty shown on the buttons of the original modes */
+    private static final Map<Integer, String> DIFFICULTIES = Map.of(3, "HARD", 4, "MEDIUM", 5, "EASY");
+
+    /** Most mode buttons shown at full size, more than that and they are made smaller to fit */
+    private static final int MAX_LARGE_BUTTONS = 4;
+
     /** Vertical node that will contain each button in our initial screen */
     private VBox root;
 
     /** Pane to set header, center of screen, and bottom of screen */
     private BorderPane borderPane;
 
-    /** Each button contained in the initial screen */
-    private Button threeLetterBtn, fourLetterBtn, fiveLetterBtn;
+    /** Word lengths that can be chosen, one button each */
+    private final int[] wordLengths;
+
+    /** Button of each word length, in the same order */
+    private Button[] modeButtons;
+
+    /** Option to play in hard mode, where every guess must reuse the hints revealed so far */
+    private CheckBox hardModeBox;
+
+    /** Option to play the daily puzzle, with the same secret word for everyone */
+    private CheckBox dailyBox;
+
+    /** Option to play against an adversary that dodges every guess, with no secret word chosen up front */
+    private CheckBox absurdleBox;
+
+    /** Number of boards to play at once, 1 for a normal game */
+    private ChoiceBox<Integer> boardsBox;
 
     /** Pane for the header of the initial screen */
     private HBox header;
 
     /**
-     * @return Three-letter mode button on initial screen
+     * @return Word lengths that can be chosen on initial screen
      */
-    public Button getThreeLetterBtn() { return threeLetterBtn; }
+    public int[] getWordLengths() { return wordLengths.clone(); }
 
     /**
-     * @return Four-letter mode button on initial screen
+     * @param index - index of a word length in {@link #getWordLengths()}
+     * @return Mode button of that word length on initial screen
      */
-    public Button getFourLetterBtn() { return fourLetterBtn; }
+    public Button getModeButton(int index) { return modeButtons[index]; }
 
     /**
-     * @return Five-letter mode button on initial screen
+     * @return Hard mode option on initial screen
      */
-    public Button getFiveLetterBtn() { return fiveLetterBtn; }
+    public CheckBox getHardModeBox() { return hardModeBox; }
+
+    /**
+     * @return Daily puzzle option on initial screen
+     */
+    public CheckBox getDailyBox() { return dailyBox; }
+
+    /**
+     * @return Adversarial mode option on initial screen
+     */
+    public CheckBox getAbsurdleBox() { return absurdleBox; }
+
+    /**
+     * @return Number of boards option on initial screen
+     */
+    public ChoiceBox<Integer> getBoardsBox() { return boardsBox; }
 
     /**
      * @return The BorderPane of our initial screen to create scene
@@ -63,8 +105,12 @@ public class InitialScreenView {
 
     /**
      * Initialized the initial screen view
+     *
+     * @param wordLengths - word lengths user can choose, in increasing order
      */
-    public InitialScreenView() {
+    public InitialScreenView(int[] wordLengths) {
+        this.wordLengths = wordLengths.clone();
+
         // Pane for the buttons
         root = new VBox();
         root.setId("button-pane");
@@ -110,18 +156,42 @@ public class InitialScreenView {
      * and adds to the main Pane
      */
     private void createInitialButtons() {
-        //Create three buttons
-        threeLetterBtn = new Button("3 LETTER MODE\n(HARD)");
-        fourLetterBtn = new Button("4 LETTER MODE\n(MEDIUM)");
-        fiveLetterBtn = new Button("5 LETTER MODE\n(EASY)");
-
-        // Style the three buttons
-        threeLetterBtn.setId("three-letter-btn");
-        fourLetterBtn.setId("four-letter-btn");
-        fiveLetterBtn.setId("five-letter-btn");
+        // Create a button for every word length, smaller ones when there are many
+        modeButtons = new Button[wordLengths.length];
+        for (int i = 0; i < wordLengths.length; i++) {
+            String difficulty = DIFFICULTIES.getOrDefault(wordLengths[i], "");
+            modeButtons[i] = new Button(wordLengths[i] + " LETTER MODE" + (difficulty.isEmpty() ? "" : "\n(" + difficulty + ")"));
+            modeButtons[i].getStyleClass().add("mode-btn");
+            if (wordLengths.length > MAX_LARGE_BUTTONS) { modeButtons[i].getStyleClass().add("compact"); }
+        }
+
+        // Hard mode applies to whichever mode is chosen
+        hardModeBox = new CheckBox("HARD MODE: REUSE EVERY HINT");
+        hardModeBox.setId("hard-mode-box");
+
+        // So does the daily puzzle, there is one for each mode
+        dailyBox = new CheckBox("DAILY PUZZLE: SAME WORD FOR EVERYONE");
+        dailyBox.setId("daily-box");
+
+        // An adversary has no secret word to share, so it can't be the daily puzzle too
+        absurdleBox = new CheckBox("ABSURDLE: THE WORD DODGES YOUR GUESSES");
+        absurdleBox.setId("absurdle-box");
+        dailyBox.selectedProperty().addListener((obs, was, selected) -> { if (selected) { absurdleBox.setSelected(false); } });
+        absurdleBox.selectedProperty().addListener((obs, was, selected) -> { if (selected) { dailyBox.setSelected(false); } });
+
+        // Several boards at once, each with its own secret word
+        boardsBox = new ChoiceBox<>();
+        boardsBox.getItems().add(1);
+        for (int boardCount : MultiBoardGame.BOARD_COUNTS) { boardsBox.getItems().add(boardCount); }
+        boardsBox.setValue(1);
+        Label boardsLabel = new Label("BOARDS AT ONCE:");
+        boardsLabel.setId("boards-label");
+        HBox boardsPane = new HBox(10, boardsLabel, boardsBox);
+        boardsPane.setId("boards-pane");
 
         // Placing our buttons
-        root.getChildren().addAll(threeLetterBtn, fourLetterBtn, fiveLetterBtn);
+        root.getChildren().addAll(modeButtons);
+        root.getChildren().addAll(hardModeBox, dailyBox, absurdleBox, boardsPane);
         borderPane.setCenter(root);
     }
 
@@ -0,0 +1,262 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 3:45 AM
+ *
+ * Project: csci205_final_project
+ * Package: main.view
+ * Class: MultiBoardView
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.view;
+
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollPane;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.GridPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import main.model.GameState;
+import main.model.MultiBoardGame;
+
+/**
+ * Shows a {@link MultiBoardGame}: a grid of tiles for every board, side by side
+ * and scrolling when they don't fit, and one keyboard whose keys are split in a
+ * stripe per board. Every tile is created once, and typing a letter or revealing
+ * a guess only touches the tiles of that row on the boards still being played,
+ * so 16 boards of 21 rows stay as smooth as one. Guesses are colored right away,
+ * without flipping, since a flip per board would keep the player waiting.
+ */
+public class MultiBoardView {
+
+    /** Largest size of a tile, in pixels */
+    private static final double MAX_TILE_SIZE = 40;
+
+    /** Space between two tiles, in pixels */
+    private static final double TILE_SPACING = 3;
+
+    /** Space between two boards, in pixels */
+    private static final double BOARD_SPACING = 16;
+
+    /** Widest the boards can be side by side, in pixels */
+    private static final double MAX_BOARDS_WIDTH = 1150;
+
+    /** Most boards shown side by side, more than that and they wrap to a second line */
+    private static final int MAX_BOARDS_PER_LINE = 8;
+
+    /** Style class of a tile for each pattern digit, indexed by WRONG, MISPLACED and EXACT */
+    private static final String[] DIGIT_CLASSES = {"wrong", "misplaced", "exact"};
+
+    /** The game being shown */
+    private final MultiBoardGame game;
+
+    /** Root node of the scene */
+    private final BorderPane root;
+
+    /** Tiles of every board, row by row */
+    private final Label[][] tiles;
+
+    /** Pane of every board */
+    private final GridPane[] boardPanes;
+
+    /** The keyboard, with a stripe per board on every key */
+    private final VirtualKeyboardView vk;
+
+    /** Number of boards solved, guesses left, or the end of the game */
+    private final Label status;
+
+    /** Button to play again once the game is over */
+    private final Button playAgainBtn;
+
+    /** Width of the boards side by side, in pixels */
+    private final double boardsWidth;
+
+    /**
+     * Creates the tiles of every board and the keyboard of a game
+     *
+     * @param game - the game to be shown
+     */
+    public MultiBoardView(MultiBoardGame game) {
+        this.game = game;
+        int boardCount = game.getBoardCount();
+        int wordLength = game.getWordLength();
+
+        // Boards wrap to two lines past 8 of them, and tiles shrink so a line fits the window
+        int boardsPerLine = boardCount <= MAX_BOARDS_PER_LINE ? boardCount : (boardCount + 1) / 2;
+        double boardWidth = (MAX_BOARDS_WIDTH - BOARD_SPACING * (boardsPerLine - 1)) / boardsPerLine;
+        double tileSize = Math.floor(Math.min(MAX_TILE_SIZE, (boardWidth - TILE_SPACING * (wordLength - 1)) / wordLength));
+        this.boardsWidth = boardsPerLine * (tileSize * wordLength + TILE_SPACING * (wordLength - 1))
+                + BOARD_SPACING * (boardsPerLine - 1);
+        String tileStyle = String.format("-fx-pref-width: %.0f; -fx-pref-height: %.0f; -fx-font-size: %.0fpx;",
+                tileSize, tileSize, tileSize * 0.5);
+
+        this.tiles = new Label[boardCount][game.getMaxGuesses() * wordLength];
+        this.boardPanes = new GridPane[boardCount];
+        FlowPane boards = new FlowPane(BOARD_SPACING, BOARD_SPACING);
+        boards.setId("multi-boards");
+        boards.setPrefWrapLength(boardsWidth);
+        for (int board = 0; board < boardCount; board++) {
+            GridPane pane = new GridPane();
+            pane.setHgap(TILE_SPACING);
+            pane.setVgap(TILE_SPACING);
+            pane.getStyleClass().add("multi-board");
+            for (int row = 0; row < game.getMaxGuesses(); row++) {
+                for (int column = 0; column < wordLength; column++) {
+                    Label tile = new Label();
+                    tile.getStyleClass().add("tile");
+                    tile.setStyle(tileStyle);
+                    tiles[board][row * wordLength + column] = tile;
+                    pane.add(tile, column, row);
+                }
+            }
+            boardPanes[board] = pane;
+            boards.getChildren().add(pane);
+        }
+
+        ScrollPane scroll = new ScrollPane(boards);
+        scroll.setId("multi-scroll");
+        scroll.setFitToWidth(true);
+
+        this.status = new Label();
+        status.setId("multi-status");
+        this.playAgainBtn = new Button("PLAY AGAIN");
+        playAgainBtn.setId("play-again-btn");
+        playAgainBtn.setVisible(false);
+        HBox top = new HBox(20, status, playAgainBtn);
+        top.setId("multi-header");
+
+        this.vk = new VirtualKeyboardView();
+        vk.createVirtualKeyboard();
+
+        this.root = new BorderPane(scroll);
+        root.setTop(top);
+        root.setBottom(new VBox(vk.getKeyboard()));
+        showStatus();
+    }
+
+    /**
+     * Shows a letter typed on the current row of every board still being played
+     *
+     * @param column - column of the letter
+     * @param letter - the letter, in uppercase
+     */
+    public void showTyping(int column, char letter) { setCurrentRowText(column, String.valueOf(letter)); }
+
+    /**
+     * Removes the letter of a column from the current row of every board still being played
+     *
+     * @param column - column of the letter
+     */
+    public void showDelete(int column) { setCurrentRowText(column, ""); }
+
+    /**
+     * Sets the text of one tile on the current row of every unsolved board
+     */
+    private void setCurrentRowText(int column, String text) {
+        int index = game.getRow() * game.getWordLength() + column;
+        for (int board = 0; board < game.getBoardCount(); board++) {
+            if (game.getSolvedRow(board) < 0) { tiles[board][index].setText(text); }
+        }
+    }
+
+    /**
+     * Colors a guess just submitted on every board it was played on, and updates
+     * the keyboard and the status
+     *
+     * @param row - row of the guess
+     */
+    public void revealRow(int row) {
+        int wordLength = game.getWordLength();
+        String guess = game.getGuess(row).toUpperCase();
+        for (int board = 0; board < game.getBoardCount(); board++) {
+            if (!game.isPlayedOn(board, row)) { continue; }
+
+            int pattern = game.getPattern(row, board);
+            for (int column = 0; column < wordLength; column++, pattern /= 3) {
+                Label tile = tiles[board][row * wordLength + column];
+                tile.setText(String.valueOf(guess.charAt(column)));
+                tile.getStyleClass().add(DIGIT_CLASSES[pattern % 3]);
+            }
+            if (game.getSolvedRow(board) == row) { boardPanes[board].getStyleClass().add("solved"); }
+        }
+        vk.showLetterStates(game);
+        showStatus();
+    }
+
+    /**
+     * Shows how many boards are solved and guesses are left, or how the game ended
+     */
+    public void showStatus() {
+        GameState state = game.getGameState();
+        if (state == GameState.GAME_WINNER) {
+            status.setText("ALL " + game.getBoardCount() + " BOARDS SOLVED IN " + game.getRow() + " GUESSES!");
+        }
+        else if (state == GameState.GAME_LOSER) {
+            StringBuilder missed = new StringBuilder("OUT OF GUESSES:");
+            for (int board = 0; board < game.getBoardCount(); board++) {
+                if (game.getSolvedRow(board) < 0) { missed.append(' ').append(game.getSecretWord(board).toUpperCase()); }
+            }
+            status.setText(missed.toString());
+        }
+        else {
+            status.setText(game.getSolvedCount() + "/" + game.getBoardCount() + " SOLVED, "
+                    + (game.getMaxGuesses() - game.getRow()) + " GUESSES LEFT");
+        }
+        playAgainBtn.setVisible(!state.isPlayable());
+    }
+
+    /**
+     * Shows a message about the guess being typed, until the next guess is submitted
+     *
+     * @param message - the message
+     */
+    public void showMessage(String message) { status.setText(message.toUpperCase()); }
+
+    /**
+     * Clears every tile used by the last game and the keyboard, once the game restarted
+     *
+     * @param rowsUsed - number of rows the last game used
+     */
+    public void resetBoard(int rowsUsed) {
+        int wordLength = game.getWordLength();
+        for (int board = 0; board < game.getBoardCount(); board++) {
+            for (int index = 0; index < Math.min(rowsUsed + 1, game.getMaxGuesses()) * wordLength; index++) {
+                tiles[board][index].setText("");
+                tiles[board][index].getStyleClass().retainAll("tile");
+            }
+            boardPanes[board].getStyleClass().remove("solved");
+        }
+        vk.showLetterStates(game);
+        showStatus();
+    }
+
+    /**
+     * @return root node of the scene
+     */
+    public BorderPane getRoot() { return root; }
+
+    /**
+     * @return the keyboard
+     */
+    public VirtualKeyboardView getVk() { return vk; }
+
+    /**
+     * @return button to play again once the game is over
+     */
+    public Button getPlayAgainBtn() { return playAgainBtn; }
+
+    /**
+     * @return width of the boards side by side, in pixels, to size the window
+     */
+    public double getBoardsWidth() { return boardsWidth; }
+}
@@ -0,0 +1,283 @@
+/* *****************************************
+ * CSCI205 - Software Engineering and Design
+ * Spring 2022
+ * Instructor: Prof. Brian King
+ *
+ * Name: Liv & Gang
+ * Section: 02 - 11AM
+ * Date: 10/18/26
+ * Time: 9:40 PM
+ *
+ * Project: csci205_final_project
+ * Package: main.view
+ * Class: TileAnimator
+ *
+ * Description:
+ *
+ * ****************************************
+ */
+package main.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.animation.Interpolator;
+import javafx.scene.control.Label;
+import javafx.scene.transform.Rotate;
+import main.model.Feedback;
+import java.util.ArrayList;
+
+/**
+ * Drives every tile animation of the board from a single {@link AnimationTimer}:
+ * the flip revealing the colors of a row, and the shake of a row that was not
+ * accepted. Each frame sets the rotation or translation of the tiles from the
+ * time elapsed, so nothing is created per tile, per guess or per shake.
+ * Animations can be sped up or slowed down, and reduced motion skips them
+ * altogether, for kiosks and automated UI tests.
+ */
+public class TileAnimator {
+
+    /** Speed used when none is set, can be changed with -Dwordfx.animation.speed, 0 for reduced motion */
+    public static final double DEFAULT_SPEED = Double.parseDouble(System.getProperty("wordfx.animation.speed", "1"));
+
+    /** Time each tile takes to flip */
+    private static final long FLIP_NANOS = 1_000_000_000L;
+
+    /** Time between the start of the flip of a tile and the next one */
+    private static final long FLIP_STAGGER_NANOS = 500_000_000L;
+
+    /** Time a shake takes to go from the center to one side, or back */
+    private static final long SHAKE_STEP_NANOS = 45_000_000L;
+
+    /** Number of steps of a shake, half to the left and then half to the right */
+    private static final int SHAKE_STEPS = 8;
+
+    /** How far tiles move to each side when shaking */
+    private static final double SHAKE_DISTANCE = 7.5;
+
+    /** Style class of each pattern digit: wrong, misplaced, exact */
+    private static final String[] STYLES = {"wrong", "misplaced", "exact"};
+
+    /** The one timer running every animation, stopped whenever nothing is animated */
+    private final AnimationTimer timer;
+
+    /** Animation speed, 2 is twice as fast */
+    private double speed;
+
+    /** True to skip every animation */
+    private boolean reducedMotion;
+
+    /** Tiles of the row being revealed, null if none */
+    private ArrayList<Label> revealTiles;
+
+    /** Feedback pattern of the row being revealed */
+    private int revealPattern;
+
+    /** Frame time the reveal started at, -1 until its first frame */
+    private long revealStart;
+
+    /** Number of tiles of the row already flipped and colored */
+    private int revealed;
+
+    /** Called once every tile of the row is colored */
+    private Runnable onRevealed;
+
+    /** Tiles of the row being shaken, null if none */
+    private ArrayList<Label> shakeTiles;
+
+    /** Frame time the shake started at, -1 until its first frame */
+    private long shakeStart;
+
+    /**
+     * Creates an animator at the default speed
+     */
+    public TileAnimator() {
+        this.timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) { step(now); }
+        };
+        setSpeed(DEFAULT_SPEED);
+    }
+
+    /**
+     * Flips the tiles of a row one after the other, each one taking the color
+     * of its feedback once it is flipped. With reduced motion every tile is
+     * colored right away.
+     *
+     * @param tiles - tiles of the row
+     * @param pattern - feedback pattern of the row, packed as in {@link Feedback}
+     * @param onRevealed - called once every tile is colored
+     */
+    public void reveal(ArrayList<Label> tiles, int pattern, Runnable onRevealed) {
+        completeReveal();
+        this.revealTiles = tiles;
+        this.revealPattern = pattern;
+        this.revealStart = -1;
+        this.revealed = 0;
+        this.onRevealed = onRevealed;
+
+        if (reducedMotion) {
+            completeReveal();
+        }
+        else {
+            for (Label tile : tiles) { tile.setRotationAxis(Rotate.X_AXIS); }
+            timer.start();
+        }
+    }
+
+    /**
+     * Shakes the tiles of a row from side to side. Ignored while a row is
+     * already shaking, and with reduced motion.
+     *
+     * @param tiles - tiles of the row
+     */
+    public void shake(ArrayList<Label> tiles) {
+        if (reducedMotion || shakeTiles != null) { return; }
+        this.shakeTiles = tiles;
+        this.shakeStart = -1;
+        timer.start();
+    }
+
+    /**
+     * Stops every animation right away, leaving the tiles where they belong.
+     * The row being revealed is not colored and its callback is not called.
+     */
+    public void cancel() {
+        timer.stop();
+        if (revealTiles != null) {
+            for (Label tile : revealTiles) { tile.setRotate(0); }
+        }
+        if (shakeTiles != null) {
+            for (Label tile : shakeTiles) { tile.setTranslateX(0); }
+        }
+        revealTiles = null;
+        onRevealed = null;
+        shakeTiles = null;
+    }
+
+    /**
+     * @return true while a row is being revealed
+     */
+    public boolean isRevealing() { return revealTiles != null; }
+
+    /**
+     * @return true while a row is shaking
+     */
+    public boolean isShaking() { return shakeTiles != null; }
+
+    /**
+     * @return animation speed, 2 is twice as fast
+     */
+    public double getSpeed() { return speed; }
+
+    /**
+     * Sets the animation speed. A speed of 0 or less turns on reduced motion.
+     *
+     * @param speed - animation speed, 2 is twice as fast
+     */
+    public void setSpeed(double speed) {
+        this.reducedMotion = speed <= 0;
+        this.speed = reducedMotion ? 1 : speed;
+    }
+
+    /**
+     * @return true if every animation is skipped
+     */
+    public boolean isReducedMotion() { return reducedMotion; }
+
+    /**
+     * @param reducedMotion - true to skip every animation
+     */
+    public void setReducedMotion(boolean reducedMotion) { this.reducedMotion = reducedMotion; }
+
+    /**
+     * Moves every running animation to the given frame time
+     *
+     * @param now - time of the frame, in nanoseconds
+     */
+    private void step(long now) {
+        boolean running = false;
+        if (revealTiles != null) {
+            if (revealStart < 0) { revealStart = now; }
+            running = stepReveal((long) ((now - revealStart) * speed));
+        }
+        if (shakeTiles != null) {
+            if (shakeStart < 0) { shakeStart = now; }
+            running |= stepShake((long) ((now - shakeStart) * speed));
+        }
+        if (!running) { timer.stop(); }
+    }
+
+    /**
+     * @param elapsed - scaled time since the reveal started
+     * @return true if the reveal is still running
+     */
+    private boolean stepReveal(long elapsed) {
+        int size = revealTiles.size();
+
+        // Tiles finish flipping in order, color every one that just did
+        while (revealed < size && elapsed - revealed * FLIP_STAGGER_NANOS >= FLIP_NANOS) {
+            revealTiles.get(revealed).setRotate(0);
+            colorTile(revealed++);
+        }
+        for (int i = revealed; i < size; i++) {
+            long tileElapsed = elapsed - i * FLIP_STAGGER_NANOS;
+            if (tileElapsed <= 0) { break; }
+            double fraction = (double) tileElapsed / FLIP_NANOS;
+            revealTiles.get(i).setRotate(Interpolator.EASE_BOTH.interpolate(0.0, 360.0, fraction));
+        }
+
+        if (revealed < size) { return true; }
+        finishReveal();
+        return false;
+    }
+
+    /**
+     * @param elapsed - scaled time since the shake started
+     * @return true if the shake is still running
+     */
+    private boolean stepShake(long elapsed) {
+        int shakeStep = (int) (elapsed / SHAKE_STEP_NANOS);
+        double offset = 0;
+        if (shakeStep < SHAKE_STEPS) {
+            // Every step goes out to one side or back to the center
+            double fraction = (double) (elapsed % SHAKE_STEP_NANOS) / SHAKE_STEP_NANOS;
+            if (shakeStep % 2 == 1) { fraction = 1 - fraction; }
+            double distance = shakeStep < SHAKE_STEPS / 2 ? -SHAKE_DISTANCE : SHAKE_DISTANCE;
+            offset = Interpolator.EASE_BOTH.interpolate(0.0, distance, fraction);
+        }
+        for (Label tile : shakeTiles) { tile.setTranslateX(offset); }
+
+        if (shakeStep < SHAKE_STEPS) { return true; }
+        shakeTiles = null;
+        return false;
+    }
+
+    /**
+     * Flips and colors every tile left in the row being revealed, if any, and ends the reveal
+     */
+    private void completeReveal() {
+        if (revealTiles == null) { return; }
+        while (revealed < revealTiles.size()) {
+            revealTiles.get(revealed).setRotate(0);
+            colorTile(revealed++);
+        }
+        finishReveal();
+    }
+
+    /**
+     * Adds the color of its feedback to a tile of the row being revealed
+     */
+    private void colorTile(int index) {
+        revealTiles.get(index).getStyleClass().add(STYLES[Feedback.patternDigit(revealPattern, index)]);
+    }
+
+    /**
+     * Ends the reveal, if any, and calls its callback
+     */
+    private void finishReveal() {
+        if (revealTiles == null) { return; }
+        Runnable callback = onRevealed;
+        revealTiles = null;
+        onRevealed = null;
+        if (callback != null) { callback.run(); }
+    }
+}
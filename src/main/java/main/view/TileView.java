@@ -30,9 +30,24 @@ import java.util.ArrayList;
  */
 public class TileView {
 
+    /** Size of a tile in the stylesheets, in pixels */
+    private static final double TILE_SIZE = 62;
+
+    /** Font size of a tile in the stylesheets, in pixels */
+    private static final double FONT_SIZE = 29;
+
+    /** Space between two tiles of a row, in pixels */
+    private static final double TILE_SPACING = 5;
+
+    /** Widest a row of tiles can be and still fit in the window, in pixels */
+    private static final double MAX_ROW_WIDTH = 560;
+
     /** Root node for the scene graph */
     private VBox tiles;
 
+    /** Inline style making the tiles smaller for long words, empty when they fit at their normal size */
+    private String tileStyle;
+
     /** Row of tiles representing each guess */
     private HBox topPane;
 
@@ -93,6 +108,11 @@ public class TileView {
         // Create the stack pane for the win screen later on
         tileStackPane = new StackPane();
 
+        // Long words get smaller tiles so a row still fits in the window
+        double size = Math.min(TILE_SIZE, (MAX_ROW_WIDTH - TILE_SPACING * (wordLength - 1)) / wordLength);
+        tileStyle = size >= TILE_SIZE ? "" : String.format("-fx-pref-width: %.0f; -fx-pref-height: %.0f; -fx-font-size: %.0fpx;",
+                size, size, FONT_SIZE * size / TILE_SIZE);
+
         createTilePane(wordLength);
 
     }
@@ -128,6 +148,7 @@ public class TileView {
         // Create new tile and add to top pane
         Label rect = new Label();
         rect.getStyleClass().add("tile");
+        rect.setStyle(tileStyle);
         topPane.getChildren().add(rect);
 
         // Add label to list of letters
@@ -18,9 +18,13 @@
  */
 package main.view;
 
+import javafx.css.PseudoClass;
 import javafx.scene.control.Button;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
+import main.model.Feedback;
+import main.model.MultiBoardGame;
+import main.model.WordleGame;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -30,6 +34,17 @@ import java.util.Arrays;
  */
 public class VirtualKeyboardView {
 
+    /** Pseudo-class of each letter state, none for letters not guessed yet */
+    private static final PseudoClass[] LETTER_STATE_CLASSES = {
+            null,
+            PseudoClass.getPseudoClass("wrong"),
+            PseudoClass.getPseudoClass("misplaced"),
+            PseudoClass.getPseudoClass("exact")
+    };
+
+    /** Color of each letter state in the stripes of a multi-board key, from the stylesheet */
+    private static final String[] BOARD_STATE_COLORS = {"-key-default", "-wrong", "-misplaced", "-exact"};
+
     /** Virtual keyboard node to later be added to scene */
     private VBox keyboard;
 
@@ -42,6 +57,15 @@ public class VirtualKeyboardView {
     /** List with all letters on the virtual keyboard */
     private ArrayList<String> keyboardLetters;
 
+    /** Letter keys by letter, index 0 for 'A' */
+    private Button[] letterKeys;
+
+    /** Letter state each key is showing, so keys are only restyled when their state changes */
+    private byte[] shownStates;
+
+    /** Style each key is showing in a multi-board game, so keys are only restyled when it changes */
+    private String[] shownBoardStyles;
+
     /**
      * @return The {@link ArrayList} with all letters on the virtual keyboard
      */
@@ -70,6 +94,8 @@ public class VirtualKeyboardView {
 
         keyboardKeys = new ArrayList<>();
         keyboardLetters = new ArrayList<>();
+        letterKeys = new Button[Feedback.ALPHABET_SIZE];
+        shownStates = new byte[Feedback.ALPHABET_SIZE];
     }
 
     /**
@@ -82,10 +108,64 @@ public class VirtualKeyboardView {
         Button key = new Button(letter.toString());
         keyboardKeys.add(key);
         keyboardLetters.add(letter.toString().toLowerCase());
+        letterKeys[letter - 'A'] = key;
         key.getStyleClass().add("keyboard-letter");
         return key;
     }
 
+    /**
+     * Colors every letter key with the state its letter reached in the game.
+     * Only keys whose state changed since last time are touched.
+     *
+     * @param game - the game being played
+     */
+    public void showLetterStates(WordleGame game) {
+        for (int letter = 0; letter < Feedback.ALPHABET_SIZE; letter++) {
+            byte state = game.getLetterState(letter);
+            if (state == shownStates[letter]) { continue; }
+
+            if (LETTER_STATE_CLASSES[shownStates[letter]] != null) {
+                letterKeys[letter].pseudoClassStateChanged(LETTER_STATE_CLASSES[shownStates[letter]], false);
+            }
+            if (LETTER_STATE_CLASSES[state] != null) {
+                letterKeys[letter].pseudoClassStateChanged(LETTER_STATE_CLASSES[state], true);
+            }
+            shownStates[letter] = state;
+        }
+    }
+
+    /**
+     * Colors every letter key with the state its letter reached on each board of a
+     * multi-board game, the key being split in one stripe per board. Only keys
+     * whose stripes changed since last time are touched.
+     *
+     * @param game - the game being played
+     */
+    public void showLetterStates(MultiBoardGame game) {
+        if (shownBoardStyles == null) { shownBoardStyles = new String[Feedback.ALPHABET_SIZE]; }
+
+        int boardCount = game.getBoardCount();
+        StringBuilder style = new StringBuilder(64 + 48 * boardCount);
+        for (int letter = 0; letter < Feedback.ALPHABET_SIZE; letter++) {
+            style.setLength(0);
+            boolean guessed = false;
+            style.append("-fx-background-color: linear-gradient(to right");
+            for (int board = 0; board < boardCount; board++) {
+                byte state = game.getLetterState(board, letter);
+                guessed |= state != WordleGame.LETTER_UNKNOWN;
+                String color = BOARD_STATE_COLORS[state];
+                style.append(", ").append(color).append(' ').append(100.0 * board / boardCount).append('%')
+                        .append(", ").append(color).append(' ').append(100.0 * (board + 1) / boardCount).append('%');
+            }
+            style.append(");");
+            String keyStyle = guessed ? style.toString() : "";
+            if (!keyStyle.equals(shownBoardStyles[letter])) {
+                letterKeys[letter].setStyle(keyStyle);
+                shownBoardStyles[letter] = keyStyle;
+            }
+        }
+    }
+
     /**
      * Creates the enter key on the virtual keyboard
      *
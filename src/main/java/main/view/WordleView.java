@@ -18,18 +18,16 @@
  */
 package main.view;
 
-import javafx.animation.*;
+import javafx.css.PseudoClass;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.text.Text;
-import javafx.scene.transform.Rotate;
-import javafx.util.Duration;
+import main.main.PrefixTrie;
 import main.model.GameState;
 import main.model.WordleModel;
 import java.util.ArrayList;
-import java.util.Map;
 
 /**
  * This is the class that will update the interface that the user
@@ -39,6 +37,9 @@ import java.util.Map;
  */
 public class WordleView {
 
+    /** Set on the tiles of the row being typed when no allowed word starts with its letters */
+    private static final PseudoClass NO_MATCH = PseudoClass.getPseudoClass("no-match");
+
     /** The root node containing all three nodes above */
     private BorderPane root;
 
@@ -54,8 +55,14 @@ public class WordleView {
     /** Keeps track of when tiles are done flipping */
     private boolean isFlippingDone = true;
 
-    /** Is the shaking animation is done? */
-    private boolean isShakingDone = true;
+    /** Runs the flipping and shaking of the tiles */
+    private final TileAnimator animator;
+
+    /** Called by the animator once a row is revealed, created once for every row */
+    private final Runnable onRowRevealed;
+
+    /** End message shown once the row being revealed is done, if the game is over */
+    private EndMessageView endMessage;
 
     /**
      * @return true if flipping is done, false if not
@@ -72,6 +79,11 @@ public class WordleView {
      */
     public StackPane getTileStack() { return tileStack; }
 
+    /**
+     * @return the animator of the tiles, to change its speed or turn on reduced motion
+     */
+    public TileAnimator getAnimator() { return animator; }
+
     /**
      * @return the root containing header, tiles, and keyboard, to create our scene
      */
@@ -90,6 +102,9 @@ public class WordleView {
         this.playAgainBtn = new Button("Play again?");
         this.playAgainBtn.setId("play-again-btn");
 
+        this.animator = new TileAnimator();
+        this.onRowRevealed = this::rowRevealed;
+
         initSceneGraph();
     }
 
@@ -105,89 +120,44 @@ public class WordleView {
     }
 
     /**
-     * Will perform the action of flipping a tile on the screen for a
-     * given duration
+     * Flips the tiles of a row one after the other, coloring each one with its
+     * feedback. Once the whole row is colored, the keys change color and the
+     * end message is shown if the game is over.
      *
-     * @param tile - specific tile to be flipped
-     * @param index - index of the tile
-     * @param style - style to add to tile (exact, misplaced, wrong)
+     * @param row - row of the guess
+     * @param pattern - feedback pattern of the guess, packed as in {@link main.model.Feedback}
+     * @param endMessage - End message either You Won, or You Lost
      */
-    public void performFlip(Label tile, int index, String style, EndMessageView endMessage,
-                            Map<Integer, ArrayList<String>> keyboardColors) {
+    public void revealRow(int row, int pattern, EndMessageView endMessage) {
         isFlippingDone = false;
-
-        RotateTransition rotation = new RotateTransition(Duration.seconds(1), tile);
-        rotation.setDelay(Duration.millis(index*500));
-        rotation.setAxis(Rotate.X_AXIS);
-        rotation.setToAngle(360);
-        rotation.play();
-        rotation.setOnFinished(event -> {
-            changeTileColor(style, index);
-            changeKeyboardLetterColor(keyboardColors, index);
-            showEndMessage(index, endMessage);
-        });
+        this.endMessage = endMessage;
+        this.animator.reveal(this.wordleModel.getListOfGuesses().get(row), pattern, this.onRowRevealed);
     }
 
     /**
-     * Will perform the action of shaking a tile on the screen for a
-     * given duration
+     * Shakes the tiles of the current guess, unless they are already shaking
      */
     public void horizontalShakeTiles() {
-        // Wait until animation is done to start again.
-        if (!isShakingDone) return;
-        isShakingDone = false;
-
-        for (int i = 0; i < this.wordleModel.getWordLength(); i++) {
-            // Get the tiles.
-            Label tile = this.wordleModel.getListOfGuesses().get(this.wordleModel.getRow()).get(i);
-
-            /** Shift tiles to the left. */
-            TranslateTransition shakeTileLeft = new TranslateTransition(Duration.millis(45), tile);
-            shakeTileLeft.setFromX(0); // go back to center.
-            shakeTileLeft.setCycleCount(4); // transition go back.
-            shakeTileLeft.setByX(-7.5); // how much shift of tile.
-            shakeTileLeft.setAutoReverse(true); // reverse back automatically.
-
-            /** Shift tiles to the right. */
-            TranslateTransition shakeTileRight = new TranslateTransition(Duration.millis(45), tile);
-            shakeTileRight.setFromX(0);
-            shakeTileRight.setCycleCount(4);
-            shakeTileRight.setByX(7.5);
-            shakeTileRight.setAutoReverse(true);
-
-            /** Sequential order for horizontal shake */
-            SequentialTransition sequentialTransition = new SequentialTransition(shakeTileLeft, shakeTileRight);
-
-            // Animation can be rerun when done.
-            sequentialTransition.setOnFinished(finish -> {
-                isShakingDone = true;
-            });
-
-            // Play the animation.
-            sequentialTransition.play();
-        }
+        this.animator.shake(this.wordleModel.getListOfGuesses().get(this.wordleModel.getRow()));
     }
 
     /**
-     * Shows end message if user is winner or loser. Also keeps
-     * track to see if flipping is done or not.
-     *
-     * @param index - index of the letter being flipped (checking for last letter to flip)
-     * @param endMessage - End message either You Won, or You Lost
+     * Colors the keys once a row is revealed, then shows the end message if
+     * user is winner or loser. Also keeps track to see if flipping is done or not.
      */
-    private void showEndMessage(int index, EndMessageView endMessage) {
+    private void rowRevealed() {
+        this.wordleModel.getVk().showLetterStates(this.wordleModel.getGame());
 
-        if (index == this.wordleModel.getWordLength() - 1) {
-            if (this.wordleModel.getGameState() == GameState.GAME_WINNER) {
-                String message = "Your streak: " + this.wordleModel.getCurrentWinStreak();
-                endMessage.showEndScreen("You won!", message);
-            }
-            else if (this.wordleModel.getGameState() == GameState.GAME_LOSER) {
-                String message = "Secret word was " + this.wordleModel.getSecretWord().toUpperCase();
-                endMessage.showEndScreen("You Lost!", message);}
-            else {
-                isFlippingDone = true;
-            }
+        if (this.wordleModel.getGameState() == GameState.GAME_WINNER) {
+            String message = "Your streak: " + this.wordleModel.getCurrentWinStreak();
+            endMessage.showEndScreen("You won!", message);
+        }
+        else if (this.wordleModel.getGameState() == GameState.GAME_LOSER) {
+            String message = "Secret word was " + this.wordleModel.getSecretWord().toUpperCase();
+            endMessage.showEndScreen("You Lost!", message);
+        }
+        else {
+            isFlippingDone = true;
         }
     }
 
@@ -201,6 +171,7 @@ public class WordleView {
     public void updateTyping(Text letter, int guess, int letterTile) {
         this.wordleModel.getListOfGuesses().get(guess).get(letterTile).textProperty()
                 .bind(letter.textProperty());
+        markImpossiblePrefix(guess);
     }
 
     /**
@@ -212,52 +183,49 @@ public class WordleView {
     public void updateDelete(int guess, int letterTile) {
         this.wordleModel.getListOfGuesses().get(guess).get(letterTile).textProperty()
                 .bind(new Text(" ").textProperty());
+        markImpossiblePrefix(guess);
     }
 
     /**
-     * Changes the color of the tiles containing the guessed letters (forming a guess word) on the screen
+     * Marks the tiles of a guess when no allowed word starts with the letters typed
+     * so far, by following them in the trie of allowed guesses. Runs on every
+     * keystroke, so it only reads the tiles and allocates nothing.
      *
-     * @param style - css style: exact for green, misplaced for yellow, wrong for dark grey
-     * @param index - index in which the letter is located on the guess
+     * @param guess - Current guess user is typing on
      */
-    public void changeTileColor(String style, int index) {
-        this.wordleModel.getListOfGuesses().get(this.wordleModel.getRow() - 1).get(index).getStyleClass().add(style);
+    private void markImpossiblePrefix(int guess) {
+        ArrayList<Label> tiles = this.wordleModel.getListOfGuesses().get(guess);
+        PrefixTrie trie = this.wordleModel.getReader().getPrefixTrie();
+
+        int node = PrefixTrie.ROOT;
+        for (int i = 0; i < tiles.size() && node != PrefixTrie.NONE; i++) {
+            String text = tiles.get(i).getText();
+            if (text == null || text.isBlank()) { break; }
+            node = trie.child(node, text.charAt(0));
+        }
+        for (Label tile : tiles) { tile.pseudoClassStateChanged(NO_MATCH, node == PrefixTrie.NONE); }
     }
 
     /**
-     * Changes the color on the virtual keyboard following the same logic as
-     * the color changes in the tiles where letters are typed
-     *
-     * @param keyboardColors - Map containing keyboard letters and styles to be applied to them
-     * @param tileIndex - index of tile to be updated
+     * Clears the board for a new game without rebuilding it: every tile loses its
+     * letter, color and rotation, and every key its color. Only the style classes
+     * and pseudo-classes set during the game are removed, the nodes are kept.
      */
-    public void changeKeyboardLetterColor(Map<Integer, ArrayList<String>> keyboardColors, int tileIndex) {
-        //String style, String letter, int wordLength
-        if (tileIndex == (this.wordleModel.getWordLength() - 1)) {
-            for (int i = 0; i < this.wordleModel.getWordLength(); i++) {
-                // Obtain the index of current letter in guess and change its style
-                int index = this.wordleModel.getLetterList().indexOf(keyboardColors.get(i).get(1));
-
-                // Only possibility to change colors is from yellow to green, nothing else
-                if (this.wordleModel.getKeysList().get(index).getStyleClass().toString().contains("misplaced") && (keyboardColors.get(i).get(0).equals("exact"))) {
-                    this.wordleModel.getKeysList().get(index).getStyleClass().remove("misplaced");
-                    this.wordleModel.getKeysList().get(index).getStyleClass().add("exact");
-                }
-        if (index >= 19) { index++; } //skip enter key before bottom row
-
-        // Only possibility to change colors is from yellow to green, nothing else
-        if (this.wordleModel.getKeysList().get(index).getStyleClass().toString().contains("misplaced") && (keyboardColors.get(i).get(0).equals("exact"))) {
-            this.wordleModel.getKeysList().get(index).getStyleClass().remove("misplaced");
-            this.wordleModel.getKeysList().get(index).getStyleClass().add("exact");
-        }
-
-                // Only edit the color of the keyboard key if it is not colored yet. Colored remains the same
-                else if (!this.wordleModel.getKeysList().get(index).getStyleClass().contains("misplaced") &&
-                        !this.wordleModel.getKeysList().get(index).getStyleClass().contains("exact") &&
-                        !this.wordleModel.getKeysList().get(index).getStyleClass().contains("wrong")) {
-                    this.wordleModel.getKeysList().get(index).getStyleClass().add(keyboardColors.get(i).get(0));
+    public void resetBoard() {
+        this.animator.cancel();
+        for (ArrayList<Label> guess : this.wordleModel.getListOfGuesses()) {
+            for (Label tile : guess) {
+                tile.textProperty().unbind();
+                tile.setText("");
+                // "tile" is always the first style class, the color is added after it
+                if (tile.getStyleClass().size() > 1) {
+                    tile.getStyleClass().remove(1, tile.getStyleClass().size());
                 }
+                tile.pseudoClassStateChanged(NO_MATCH, false);
+                tile.setRotate(0);
             }
         }
+        this.wordleModel.getVk().showLetterStates(this.wordleModel.getGame());
+        isFlippingDone = true;
     }
 }
@@ -2,6 +2,8 @@ module csci205_final_project{
     requires java.base;
     requires java.desktop;
     requires java.sql;
+    requires jdk.httpserver;
+    requires jdk.jfr;
     requires javafx.graphics;
     requires javafx.controls;
     requires javafx.fxml;
@@ -9,4 +11,7 @@ module csci205_final_project{
     exports main.controller;
     exports main.view;
     exports main.model;
+    exports main.solver;
+    exports main.server;
+    exports main.events;
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package main.events;
+
+import jdk.jfr.Recording;
+import main.main.CompiledDictionary;
+import main.main.ReadWordsFiles;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the WordFX flight recorder events and their report
+ */
+class FlightReportTest {
+
+    @TempDir
+    Path directory;
+
+    private static void guess(String guess, String rejection, long validationTime, long evaluationTime) {
+        GuessEvent event = new GuessEvent();
+        event.begin();
+        event.wordLength = 5;
+        event.guess = guess;
+        event.accepted = rejection == null;
+        event.rejection = rejection;
+        event.validationTime = validationTime;
+        event.evaluationTime = evaluationTime;
+        event.commit();
+    }
+
+    @Test
+    void reportOfRecording() throws IOException {
+        Path file = directory.resolve("wordfx.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(GuessEvent.class);
+            recording.enable(DictionaryLoadEvent.class);
+            recording.enable(GameRestartEvent.class);
+            recording.start();
+
+            guess("crane", null, 2_000, 30_000);
+            guess("state", null, 4_000, 50_000);
+            guess("xxxxx", "Invalid word", 1_000, 0);
+            guess(null, "Not enough letters", 0, 0);
+            CompiledDictionary.load(ReadWordsFiles.getSecretWordFile(5));
+            GameRestartEvent restart = new GameRestartEvent();
+            restart.begin();
+            restart.commit();
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        FlightReport report = FlightReport.read(file);
+        assertEquals(report.getCount("Guess"), 4);
+        assertEquals(report.getCount("  validation"), 3);
+        assertEquals(report.getCount("  evaluation"), 2);
+        assertEquals(report.getTotalNanos("  evaluation"), 80_000);
+        assertEquals(report.getTotalNanos("  validation"), 7_000);
+        assertEquals(report.getCount("Dictionary load"), 1);
+        assertEquals(report.getCount("Game restart"), 1);
+        assertEquals(report.getCount("Scene creation"), 0);
+
+        String text = report.format();
+        assertTrue(text.contains("2 submitted, 2 turned down"));
+        assertTrue(text.contains("Invalid word"));
+        assertTrue(text.contains("2315 words"));
+    }
+}
@@ -0,0 +1,60 @@
+package main.main;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the compiled (binary) form of the word files
+ */
+class CompiledDictionaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void matchesWordFile() throws IOException {
+        String wordFile = "src/main/resources/text-files/allowed5words.txt";
+        CompiledDictionary dictionary = CompiledDictionary.load(wordFile);
+        assertEquals(dictionary.getWordLength(), 5);
+        assertEquals(dictionary.words(), ReadWordsFiles.readWords(wordFile));
+
+        PackedWordSet set = new PackedWordSet();
+        dictionary.addTo(set);
+        assertEquals(set.size(), dictionary.size());
+        assertTrue(set.contains("state"));
+    }
+
+    @Test
+    void compiledAgainWhenWordFileChanges() throws IOException {
+        Path wordFile = Files.writeString(directory.resolve("compiled-test-words.txt"), "row\nwin\n");
+        assertEquals(CompiledDictionary.load(wordFile.toString()).words().size(), 2);
+
+        Files.writeString(wordFile, "row\nwin\ntab\n");
+        Files.setLastModifiedTime(wordFile, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        CompiledDictionary dictionary = CompiledDictionary.load(wordFile.toString());
+        assertEquals(dictionary.size(), 3);
+        assertEquals(dictionary.word(2), "tab");
+    }
+
+    @Test
+    void inMemory() {
+        CompiledDictionary dictionary = CompiledDictionary.of(List.of("row", "state", "win", "w1n"));
+        assertEquals(dictionary.getWordLength(), 3);
+        assertEquals(dictionary.words(), List.of("row", "win"));
+        assertEquals(dictionary.packedWord(1), PackedWordSet.pack("win"));
+    }
+
+    @Test
+    void rejectsMixedLengths() throws IOException {
+        Path wordFile = Files.writeString(directory.resolve("mixed.txt"), "row\nstate\n");
+        assertThrows(IOException.class, () -> CompiledDictionary.compile(wordFile, directory.resolve("mixed.dict")));
+    }
+}
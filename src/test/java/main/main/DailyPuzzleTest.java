@@ -0,0 +1,51 @@
+package main.main;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the numbered puzzles and their permutation of the word list
+ */
+class DailyPuzzleTest {
+
+    @Test
+    void everyWordOncePerPass() {
+        for (int size : new int[] {1, 2, 7, 418, 2314}) {
+            for (long pass = -1; pass <= 1; pass++) {
+                BitSet seen = new BitSet(size);
+                for (int i = 0; i < size; i++) {
+                    int index = DailyPuzzle.indexOf(pass * size + i, size, DailyPuzzle.DAILY_SEED);
+                    assertTrue(index >= 0 && index < size);
+                    seen.set(index);
+                }
+                assertEquals(seen.cardinality(), size);
+            }
+        }
+    }
+
+    @Test
+    void passesAndSeedsDiffer() {
+        int size = 2314;
+        assertNotEquals(DailyPuzzle.indexOf(5, size, 1), DailyPuzzle.indexOf(size + 5, size, 1));
+        assertNotEquals(DailyPuzzle.indexOf(5, size, 1), DailyPuzzle.indexOf(5, size, 2));
+        assertThrows(IllegalArgumentException.class, () -> DailyPuzzle.indexOf(0, 0, 1));
+    }
+
+    @Test
+    void sameWordEverywhere() {
+        // Pinned, so a change to the permutation that would give players different words is noticed
+        LocalDate day = LocalDate.of(2026, 10, 18);
+        assertEquals(DailyPuzzle.getPuzzleNumber(day), 1751);
+        assertEquals(dailyWord(5, day), "enter");
+        assertEquals(dailyWord(3, day), "hem");
+    }
+
+    private static String dailyWord(int wordLength, LocalDate day) {
+        return new ReadWordsFiles().createSeededWord(ReadWordsFiles.getSecretWordFile(wordLength),
+                DailyPuzzle.DAILY_SEED, DailyPuzzle.getPuzzleNumber(day));
+    }
+}
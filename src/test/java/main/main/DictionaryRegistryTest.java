@@ -0,0 +1,41 @@
+package main.main;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the process-wide dictionary registry
+ */
+class DictionaryRegistryTest {
+
+    @Test
+    void sameInstanceForEveryGame() {
+        List<String> secretWords = DictionaryRegistry.getSecretWords(4);
+        PackedWordSet allowedWords = DictionaryRegistry.getAllowedWords(4);
+        PrefixTrie prefixTrie = DictionaryRegistry.getPrefixTrie(4);
+        long misses = DictionaryRegistry.getMisses();
+        long hits = DictionaryRegistry.getHits();
+
+        // Two more games of the same mode only hit the registry
+        for (int game = 0; game < 2; game++) {
+            ReadWordsFiles reader = new ReadWordsFiles();
+            String secretWord = reader.createRandomWord(ReadWordsFiles.getSecretWordFile(4));
+            reader.createWordSet(ReadWordsFiles.getAllowedWordFile(4));
+            assertTrue(secretWords.contains(secretWord));
+        }
+        assertSame(DictionaryRegistry.getSecretWords(4), secretWords);
+        assertSame(DictionaryRegistry.getAllowedWords(4), allowedWords);
+        assertSame(DictionaryRegistry.getPrefixTrie(4), prefixTrie);
+        assertEquals(DictionaryRegistry.getMisses(), misses);
+        assertEquals(DictionaryRegistry.getHits(), hits + 9);
+    }
+
+    @Test
+    void sharedWordsAreReadOnly() {
+        assertThrows(UnsupportedOperationException.class, () -> DictionaryRegistry.getSecretWords(3).add("abc"));
+        assertThrows(UnsupportedOperationException.class, () -> DictionaryRegistry.getAllowedWords(3).add("abc"));
+    }
+}
@@ -3,7 +3,6 @@
 package main.main;
 
 import javafx.application.Application;
-import main.model.GameState;
 import main.model.WordleModel;
 import main.view.WordleView;
 import org.junit.jupiter.api.BeforeEach;
@@ -36,15 +35,18 @@ class GuessEvaluatorTest {
         Application.launch(main.main.WordleMain.class);
         wordleModel3 = new WordleModel(3);
         wordleView3 = new WordleView(wordleModel3);
-        evaluator3 = new GuessEvaluator(wordleModel3, wordleView3, "row");
+        wordleModel3.getGame().restart("row");
+        evaluator3 = new GuessEvaluator(wordleModel3, wordleView3);
 
         wordleModel4 = new WordleModel(4);
         wordleView4 = new WordleView(wordleModel4);
-        evaluator4 = new GuessEvaluator(wordleModel4, wordleView4, "time");
+        wordleModel4.getGame().restart("time");
+        evaluator4 = new GuessEvaluator(wordleModel4, wordleView4);
 
         wordleModel5 = new WordleModel(5);
         wordleView5 = new WordleView(wordleModel5);
-        evaluator5 = new GuessEvaluator(wordleModel5, wordleView5, "state");
+        wordleModel5.getGame().restart("state");
+        evaluator5 = new GuessEvaluator(wordleModel5, wordleView5);
 
     }
 
@@ -80,24 +82,7 @@ class GuessEvaluatorTest {
     }
 
     @Test
-    void loserUser() {
+    void analyzeWrongGuess() {
         guessWrong();
-        evaluator3.loserUser();
-        assertEquals(wordleModel3.getGameState(), GameState.GAME_LOSER);
-        assertEquals(wordleModel3.getCurrentWinStreak(), 0);
     }
-
-    @Test
-    void winnerUser() {
-        guessCorrect();
-        evaluator3.winnerUser();
-        evaluator4.winnerUser();
-        evaluator5.winnerUser();
-        assertEquals(wordleModel3.getGameState(), GameState.GAME_WINNER); //due to closing app (stays as game winner before closing)
-        assertEquals(wordleModel3.getCurrentWinStreak(), 1);
-        assertEquals(wordleModel4.getGameState(), GameState.GAME_WINNER); //due to closing app (stays as game winner before closing)
-        assertEquals(wordleModel4.getCurrentWinStreak(), 1);
-        assertEquals(wordleModel5.getGameState(), GameState.GAME_WINNER); //due to closing app (stays as game winner before closing)
-        assertEquals(wordleModel5.getCurrentWinStreak(), 1);
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,62 @@
+package main.main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the packed word set backing the allowed guesses
+ */
+class PackedWordSetTest {
+
+    private PackedWordSet set;
+
+    @BeforeEach
+    void setUp() {
+        set = new PackedWordSet();
+        for (String word : ReadWordsFiles.readWords("src/main/resources/text-files/allowed5words.txt")) {
+            set.add(word);
+        }
+    }
+
+    @Test
+    void containsAllowedWords() {
+        assertEquals(set.size(), 12972);
+        assertTrue(set.contains("state"));
+        assertTrue(set.contains("STATE"));
+        assertFalse(set.contains("stat"));
+        assertFalse(set.contains("zzzzz"));
+        assertFalse(set.contains("st8te"));
+    }
+
+    @Test
+    void containsCharBuffer() {
+        char[] buffer = "xxSTATExx".toCharArray();
+        assertTrue(set.contains(buffer, 2, 5));
+        assertFalse(set.contains(buffer, 1, 5));
+    }
+
+    @Test
+    void packDistinguishesLengths() {
+        assertNotEquals(PackedWordSet.pack("a"), PackedWordSet.pack("aa"));
+        assertEquals(PackedWordSet.pack("abc"), PackedWordSet.pack("ABC".toCharArray(), 0, 3));
+        assertEquals(PackedWordSet.pack("abcdefghijklm"), -1);
+    }
+
+    @Test
+    void addIgnoresDuplicates() {
+        assertFalse(set.add("state"));
+        assertEquals(set.size(), 12972);
+    }
+
+    @Test
+    void toPackedArrayHasEveryWord() {
+        long[] words = set.toPackedArray();
+        assertEquals(words.length, set.size());
+        PackedWordSet copy = new PackedWordSet();
+        for (long packed : words) { copy.add(PackedWordSet.unpack(packed)); }
+        assertEquals(copy.size(), set.size());
+        assertTrue(copy.contains("state"));
+    }
+}
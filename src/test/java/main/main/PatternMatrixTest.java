@@ -0,0 +1,77 @@
+package main.main;
+
+import main.model.Feedback;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the pattern matrix and its cache file
+ */
+class PatternMatrixTest {
+
+    @TempDir
+    Path directory;
+
+    private Path guessFile;
+    private Path secretFile;
+    private Path cacheFile;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        guessFile = Files.writeString(directory.resolve("allowed.txt"), "row\nfor\ntwo\nwin\ntab\n");
+        secretFile = Files.writeString(directory.resolve("secret.txt"), "row\nwin\n");
+        cacheFile = directory.resolve("cache").resolve("patterns3.bin");
+    }
+
+    private PatternMatrix load() throws IOException {
+        return PatternMatrix.load(guessFile.toString(), secretFile.toString(), 3, cacheFile);
+    }
+
+    @Test
+    void patternsMatchEvaluator() throws IOException {
+        PatternMatrix matrix = load();
+        assertTrue(Files.exists(cacheFile));
+        assertEquals(Feedback.decodePattern(matrix.pattern(matrix.indexOfGuess("for"), 0), 3), "-*+");
+        assertEquals(Feedback.decodePattern(matrix.pattern(matrix.indexOfGuess("two"), 0), 3), "-++");
+        assertEquals(matrix.pattern(matrix.indexOfGuess("win"), 1), Feedback.winningPattern(3));
+        assertEquals(matrix.indexOfGuess("xyz"), -1);
+    }
+
+    @Test
+    void longWords() throws IOException {
+        Files.writeString(guessFile, "intellectual\nintelligence\nquarterbacks\n");
+        Files.writeString(secretFile, "intelligence\nquarterbacks\n");
+        PatternMatrix matrix = PatternMatrix.load(guessFile.toString(), secretFile.toString(), 12, cacheFile);
+        assertEquals(Feedback.decodePattern(matrix.pattern(0, 0), 12), "******++----");
+        assertEquals(matrix.pattern(2, 1), Feedback.winningPattern(12));
+        assertEquals(PatternMatrix.patternSize(5), 1);
+        assertEquals(PatternMatrix.patternSize(10), 2);
+        assertEquals(PatternMatrix.patternSize(12), 4);
+    }
+
+    @Test
+    void cacheIsReused() throws IOException {
+        load();
+        long modified = Files.getLastModifiedTime(cacheFile).toMillis();
+        PatternMatrix matrix = load();
+        assertEquals(Files.getLastModifiedTime(cacheFile).toMillis(), modified);
+        assertEquals(matrix.pattern(0, 0), Feedback.winningPattern(3));
+    }
+
+    @Test
+    void cacheIsRebuiltWhenWordsChange() throws IOException {
+        load();
+        Files.writeString(secretFile, "tab\nwin\n");
+        PatternMatrix matrix = load();
+        assertEquals(matrix.getSecrets().get(0), "tab");
+        assertEquals(matrix.pattern(matrix.indexOfGuess("tab"), 0), Feedback.winningPattern(3));
+        assertEquals(Feedback.decodePattern(matrix.pattern(matrix.indexOfGuess("row"), 0), 3), "---");
+    }
+}
@@ -0,0 +1,66 @@
+package main.main;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the prefix trie used while a guess is typed
+ */
+class PrefixTrieTest {
+
+    private List<String> words;
+    private PrefixTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        words = ReadWordsFiles.readWords("src/main/resources/text-files/allowed5words.txt");
+        trie = new PrefixTrie(words.stream().mapToLong(PackedWordSet::pack).toArray(), 5);
+    }
+
+    @Test
+    void containsAllowedWords() {
+        assertEquals(trie.size(), 12972);
+        for (String word : words) {
+            assertTrue(trie.contains(word.toCharArray(), 0, 5));
+        }
+        assertTrue(trie.contains("STATE".toCharArray(), 0, 5));
+        assertFalse(trie.contains("stat".toCharArray(), 0, 4));
+        assertFalse(trie.contains("zzzzz".toCharArray(), 0, 5));
+        assertFalse(trie.hasPrefix("st8".toCharArray(), 0, 3));
+    }
+
+    @Test
+    void hasPrefixMatchesWordList() {
+        HashSet<String> prefixes = new HashSet<>();
+        for (String word : words) {
+            for (int len = 0; len <= 5; len++) { prefixes.add(word.substring(0, len)); }
+        }
+        assertEquals(trie.nodeCount(), prefixes.size());
+
+        Random random = new Random(205);
+        char[] letters = new char[5];
+        for (int i = 0; i < 20000; i++) {
+            int len = 1 + random.nextInt(5);
+            for (int j = 0; j < len; j++) { letters[j] = (char) ('a' + random.nextInt(26)); }
+            assertEquals(trie.hasPrefix(letters, 0, len), prefixes.contains(new String(letters, 0, len)));
+        }
+        assertTrue(trie.hasPrefix("xy".toCharArray(), 0, 2) == prefixes.contains("xy"));
+        assertTrue(trie.hasPrefix(new char[0], 0, 0));
+    }
+
+    @Test
+    void registrySharesTrie() {
+        PrefixTrie shared = DictionaryRegistry.getPrefixTrie(5);
+        assertSame(DictionaryRegistry.getPrefixTrie(5), shared);
+        // Secret words missing from the allowed guess file can be typed too
+        for (String secretWord : DictionaryRegistry.getSecretWords(4)) {
+            assertTrue(DictionaryRegistry.getPrefixTrie(4).contains(secretWord.toCharArray(), 0, 4));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package main.main;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for finding the word lengths from the word files
+ */
+class ReadWordsFilesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void gameWordLengths() {
+        assertArrayEquals(ReadWordsFiles.getWordLengths(), new int[] {3, 4, 5});
+        assertEquals(ReadWordsFiles.getSecretWordFile(4), "src/main/resources/text-files/4words.txt");
+    }
+
+    @Test
+    void findWordLengths() throws IOException {
+        for (String name : new String[] {"12words.txt", "allowed12words.txt", "3words.txt", "allowed3words.txt",
+                "7words.txt", "2words.txt", "allowed2words.txt", "13words.txt", "allowed13words.txt", "notes.txt"}) {
+            Files.writeString(directory.resolve(name), "");
+        }
+        assertArrayEquals(ReadWordsFiles.findWordLengths(directory), new int[] {3, 12});
+        assertArrayEquals(ReadWordsFiles.findWordLengths(directory.resolve("missing")), new int[0]);
+    }
+}
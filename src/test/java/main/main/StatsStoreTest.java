@@ -0,0 +1,91 @@
+package main.main;
+
+import main.model.PlayerStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the player statistics log and its snapshot
+ */
+class StatsStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void reopen() throws IOException {
+        StatsStore store = new StatsStore(directory, 100);
+        play(store, true, 3);
+        play(store, true, 4);
+        play(store, false, 6);
+        play(store, true, 2);
+        store.close();
+
+        PlayerStats stats = new StatsStore(directory, 100).getStats();
+        assertEquals(stats.getPlayed(), 4);
+        assertEquals(stats.getWins(), 3);
+        assertEquals(stats.getCurrentStreak(), 1);
+        assertEquals(stats.getMaxStreak(), 2);
+        assertArrayEquals(stats.getGuessDistribution(5), new int[] {1, 0, 1, 1, 1, 0, 0});
+    }
+
+    @Test
+    void compact() throws IOException {
+        StatsStore store = new StatsStore(directory, 3);
+        for (int i = 0; i < 7; i++) { play(store, true, 1); }
+        assertEquals(store.getLogRecords(), 1);
+        store.close();
+
+        StatsStore reopened = new StatsStore(directory, 3);
+        assertEquals(reopened.getStats().getPlayed(), 7);
+        assertEquals(reopened.getStats().getMaxStreak(), 7);
+        assertEquals(reopened.getLogRecords(), 1);
+    }
+
+    @Test
+    void tornRecord() throws IOException {
+        StatsStore store = new StatsStore(directory, 100);
+        play(store, true, 2);
+        play(store, true, 3);
+        store.close();
+
+        // Cut the last record in half, as if the game crashed while writing it
+        try (FileChannel log = FileChannel.open(directory.resolve("stats.log"), StandardOpenOption.WRITE)) {
+            log.truncate(log.size() - StatsStore.RECORD_SIZE / 2);
+        }
+
+        StatsStore reopened = new StatsStore(directory, 100);
+        assertEquals(reopened.getStats().getPlayed(), 1);
+        play(reopened, false, 6);
+        reopened.close();
+        assertEquals(new StatsStore(directory, 100).getStats().getPlayed(), 2);
+    }
+
+    @Test
+    void manyGames() throws IOException {
+        StatsStore store = new StatsStore(directory, StatsStore.DEFAULT_COMPACT_EVERY);
+        for (int i = 0; i < 100_000; i++) { play(store, i % 10 != 0, i % 6 + 1); }
+        store.close();
+
+        // Opening only reads the snapshot and the few records logged since, however many games were played
+        StatsStore reopened = new StatsStore(directory, StatsStore.DEFAULT_COMPACT_EVERY);
+        PlayerStats stats = reopened.getStats();
+        assertTrue(reopened.getLogRecords() < StatsStore.DEFAULT_COMPACT_EVERY);
+        assertEquals(stats.getPlayed(), 100_000);
+        assertEquals(stats.getWins(), 90_000);
+        assertEquals(stats.getCurrentStreak(), 9);
+    }
+
+    private static void play(StatsStore store, boolean won, int guesses) throws IOException {
+        long[] packed = new long[guesses];
+        for (int i = 0; i < guesses; i++) { packed[i] = PackedWordSet.pack("tests"); }
+        store.record(5, PackedWordSet.pack("state"), packed, won, 1000);
+    }
+}
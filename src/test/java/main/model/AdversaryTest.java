@@ -0,0 +1,60 @@
+package main.model;
+
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the opponent of an adversarial game
+ */
+class AdversaryTest {
+
+    private static long[] pack(String... words) {
+        long[] packed = new long[words.length];
+        for (int i = 0; i < words.length; i++) { packed[i] = PackedWordSet.pack(words[i]); }
+        return packed;
+    }
+
+    @Test
+    void keepsLargestBucket() {
+        Adversary adversary = new Adversary(pack("row", "for", "two", "win", "tab", "cab"), 3);
+        // "tab" splits the words into --- (row, for, win), *-- (two), *** (tab) and -** (cab)
+        assertEquals(Feedback.decodePattern(adversary.respond(PackedWordSet.pack("tab")), 3), "---");
+        assertEquals(adversary.getRemainingCount(), 3);
+        assertEquals(adversary.getRemainingWord(0), "row");
+        assertEquals(adversary.getRemainingWord(2), "win");
+
+        // Every word left gives "fox" another pattern, so the lowest one is kept
+        assertEquals(Feedback.decodePattern(adversary.respond(PackedWordSet.pack("fox")), 3), "---");
+        assertEquals(adversary.getRemainingCount(), 1);
+        assertEquals(adversary.getRemainingWord(0), "win");
+        assertThrows(IndexOutOfBoundsException.class, () -> adversary.getRemainingWord(1));
+
+        adversary.reset();
+        assertEquals(adversary.getRemainingCount(), 6);
+    }
+
+    @Test
+    void winsOnlyWithOneWordLeft() {
+        Adversary adversary = new Adversary(pack("row", "for"), 3);
+        assertNotEquals(adversary.respond(PackedWordSet.pack("row")), Feedback.winningPattern(3));
+        assertEquals(adversary.getRemainingWord(0), "for");
+        assertEquals(adversary.respond(PackedWordSet.pack("for")), Feedback.winningPattern(3));
+    }
+
+    @Test
+    void fullWordList() {
+        Adversary adversary = new Adversary(DictionaryRegistry.getSecretDictionary(5));
+        int before = adversary.getRemainingCount();
+        int pattern = adversary.respond(PackedWordSet.pack("crane"));
+        assertTrue(adversary.getRemainingCount() > 0 && adversary.getRemainingCount() < before);
+
+        // Every word left gives the pattern that was answered
+        long guess = PackedWordSet.pack("crane");
+        for (int i = 0; i < adversary.getRemainingCount(); i++) {
+            assertEquals(Feedback.evaluate(PackedWordSet.pack(adversary.getRemainingWord(i)), guess, 5), pattern);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package main.model;
+
+import main.main.PackedWordSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the primitive feedback rules of the game.
+ * These methods are static, so no JavaFX application needs to be launched.
+ */
+class FeedbackTest {
+
+    private final int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+
+    private String analyze(String secret, String guess) {
+        int pattern = Feedback.evaluate(Feedback.toLetters(secret),
+                Feedback.toLetters(guess), secret.length(), letterCounts);
+        return Feedback.decodePattern(pattern, secret.length());
+    }
+
+    @Test
+    void evaluateCorrect() {
+        assertEquals(analyze("row", "row"), "***");
+        assertEquals(analyze("time", "time"), "****");
+        assertEquals(analyze("state", "state"), "*****");
+    }
+
+    @Test
+    void evaluateWrong() {
+        assertEquals(analyze("row", "tab"), "---");
+        assertEquals(analyze("row", "rap"), "*--");
+        assertEquals(analyze("row", "for"), "-*+");
+        assertEquals(analyze("row", "two"), "-++");
+        assertEquals(analyze("row", "win"), "+--");
+    }
+
+    @Test
+    void evaluateRepeatedLetters() {
+        // Only one unused 'e' in the secret, so only the first extra 'e' is misplaced
+        assertEquals(analyze("abbey", "keeps"), "-+---");
+        // Exact letters are taken care of before misplaced ones
+        assertEquals(analyze("state", "tests"), "+++*-");
+        assertEquals(analyze("robot", "ooooo"), "-*-*-");
+    }
+
+    @Test
+    void evaluateChars() {
+        int pattern = Feedback.evaluate("state".toCharArray(), "tests".toCharArray(), 5, letterCounts);
+        assertEquals(Feedback.decodePattern(pattern, 5), "+++*-");
+    }
+
+    @Test
+    void patternRange() {
+        assertEquals(Feedback.winningPattern(5), 242);
+        assertEquals(Feedback.patternCount(3), 27);
+        assertEquals(Feedback.evaluate(Feedback.toLetters("state"),
+                Feedback.toLetters("state"), 5, letterCounts), 242);
+        assertEquals(Feedback.patternDigit(Feedback.winningPattern(5), 4), Feedback.EXACT);
+    }
+
+    @Test
+    void evaluatePacked() {
+        assertEquals(Feedback.decodePattern(Feedback.evaluate(PackedWordSet.pack("state"), PackedWordSet.pack("tests"), 5), 5), "+++*-");
+        assertEquals(Feedback.packedLetter(PackedWordSet.pack("state"), 2), 'a' - 'a');
+
+        // Same rules as the letter index version, on random words over a small alphabet to get many repeats
+        Random random = new Random(205);
+        char[] secret = new char[5];
+        char[] guess = new char[5];
+        for (int n = 0; n < 10_000; n++) {
+            for (int i = 0; i < 5; i++) {
+                secret[i] = (char) ('a' + random.nextInt(4));
+                guess[i] = (char) ('a' + random.nextInt(4));
+            }
+            assertEquals(Feedback.evaluate(PackedWordSet.pack(secret, 0, 5), PackedWordSet.pack(guess, 0, 5), 5),
+                    Feedback.evaluate(secret, guess, 5, letterCounts));
+        }
+    }
+
+    @Test
+    void evaluateBoards() {
+        // Every board gets the same pattern as evaluating it alone, and boards left out are untouched
+        Random random = new Random(205);
+        char[] word = new char[6];
+        long[] secrets = new long[16];
+        int[] patterns = new int[16];
+        for (int n = 0; n < 2_000; n++) {
+            for (int board = 0; board < secrets.length; board++) {
+                for (int i = 0; i < 6; i++) { word[i] = (char) ('a' + random.nextInt(4)); }
+                secrets[board] = PackedWordSet.pack(word, 0, 6);
+            }
+            long guess = secrets[random.nextInt(secrets.length)];
+            long boards = random.nextLong() & 0xFFFF;
+            Arrays.fill(patterns, -1);
+            Feedback.evaluate(guess, secrets, boards, 6, patterns);
+            for (int board = 0; board < secrets.length; board++) {
+                int expected = (boards & (1L << board)) != 0 ? Feedback.evaluate(secrets[board], guess, 6) : -1;
+                assertEquals(patterns[board], expected);
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package main.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the constraint built from the feedback of guesses
+ */
+class LetterConstraintTest {
+
+    private LetterConstraint constraint;
+
+    private final int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+
+    @BeforeEach
+    void setUp() {
+        constraint = new LetterConstraint(5);
+    }
+
+    private void guess(String secret, String guess) {
+        byte[] letters = Feedback.toLetters(guess);
+        constraint.add(letters, Feedback.evaluate(Feedback.toLetters(secret), letters, 5, letterCounts));
+    }
+
+    private boolean matches(String word) {
+        boolean matchesLetters = constraint.matches(Feedback.toLetters(word));
+        assertEquals(constraint.matches(word.toUpperCase().toCharArray(), 0, 5), matchesLetters);
+        return matchesLetters;
+    }
+
+    @Test
+    void matchesEverythingAtFirst() {
+        assertTrue(matches("crane"));
+        assertTrue(matches("zzzzz"));
+        assertFalse(constraint.matches("cran".toCharArray(), 0, 4));
+        assertFalse(constraint.matches("cr4ne".toCharArray(), 0, 5));
+    }
+
+    @Test
+    void exactMisplacedAndWrong() {
+        guess("state", "crane");
+        assertTrue(matches("state"));
+        assertTrue(matches("skate"));
+        // 'a' must stay in the middle and 'e' at the end
+        assertFalse(matches("steak"));
+        // 'c', 'r' and 'n' are not in the word
+        assertFalse(matches("trace"));
+    }
+
+    @Test
+    void repeatedLetters() {
+        // Only one 'e' in "abbey", so the word has exactly one 'e', and not in position 2
+        guess("abbey", "keeps");
+        assertEquals(constraint.getMinCount('e' - 'a'), 1);
+        assertEquals(constraint.getMaxCount('e' - 'a'), 1);
+        assertTrue(matches("abbey"));
+        assertFalse(matches("eerie"));
+        assertFalse(matches("fleet"));
+        assertFalse(matches("abbot"));
+    }
+
+    @Test
+    void revealedOnly() {
+        byte[] letters = Feedback.toLetters("crane");
+        constraint.addRevealed(letters, Feedback.evaluate(Feedback.toLetters("state"), letters, 5, letterCounts));
+        // Greens must stay, but wrong letters and misplaced positions may be reused
+        assertTrue(matches("crane"));
+        assertTrue(matches("brace"));
+        assertFalse(matches("stoke"));
+    }
+
+    @Test
+    void reset() {
+        guess("state", "crane");
+        constraint.reset();
+        assertTrue(matches("crane"));
+    }
+}
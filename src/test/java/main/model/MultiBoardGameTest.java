@@ -0,0 +1,90 @@
+package main.model;
+
+import main.main.ReadWordsFiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for a game played on several boards at once
+ */
+class MultiBoardGameTest {
+
+    private MultiBoardGame game;
+
+    @BeforeEach
+    void setUp() {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(5));
+        game = new MultiBoardGame(5, new String[]{"state", "robot", "abbey", "keeps"}, reader);
+    }
+
+    @Test
+    void winnerUser() {
+        assertEquals(game.getMaxGuesses(), 4 + MultiBoardGame.EXTRA_GUESSES);
+        assertEquals(game.submitGuess("tests"), 0);
+        assertEquals(Feedback.decodePattern(game.getPattern(0, 0), 5), "+++*-");
+        assertEquals(Feedback.decodePattern(game.getPattern(0, 3), 5), "-*--*");
+
+        game.submitGuess("robot");
+        assertEquals(game.getSolvedRow(1), 1);
+        assertEquals(game.getSolvedCount(), 1);
+        assertEquals(game.getGameState(), GameState.GAME_IN_PROGRESS);
+
+        // Solved boards are not played anymore
+        game.submitGuess("state");
+        assertTrue(game.isPlayedOn(1, 1));
+        assertFalse(game.isPlayedOn(1, 2));
+        assertTrue(game.isPlayedOn(0, 2));
+        assertFalse(game.isPlayedOn(0, 3));
+
+        game.submitGuess("abbey");
+        assertEquals(game.submitGuess("keeps"), 4);
+        assertEquals(game.getGameState(), GameState.GAME_WINNER);
+        assertEquals(game.getSolvedRow(3), 4);
+        assertThrows(IllegalStateException.class, () -> game.submitGuess("state"));
+    }
+
+    @Test
+    void loserUser() {
+        for (int guess = 0; guess < game.getMaxGuesses(); guess++) {
+            assertTrue(game.getGameState().isPlayable());
+            game.submitGuess(guess == 0 ? "state" : "fluff");
+        }
+        assertEquals(game.getGameState(), GameState.GAME_LOSER);
+        assertEquals(game.getSolvedCount(), 1);
+        assertEquals(game.getSecretWord(2), "abbey");
+        assertEquals(game.getGuess(1), "fluff");
+    }
+
+    @Test
+    void letterStatesByBoard() {
+        game.submitGuess("tests");
+        int t = 't' - 'a';
+        int s = 's' - 'a';
+        assertEquals(game.getLetterState(0, t), WordleGame.LETTER_EXACT);
+        assertEquals(game.getLetterState(1, t), WordleGame.LETTER_MISPLACED);
+        assertEquals(game.getLetterState(2, t), WordleGame.LETTER_WRONG);
+        assertEquals(game.getLetterState(3, s), WordleGame.LETTER_EXACT);
+        assertEquals(game.getLetterState(2, 'z' - 'a'), WordleGame.LETTER_UNKNOWN);
+
+        // A better state is kept, a worse one doesn't replace it
+        game.submitGuess("steam");
+        game.submitGuess("tests");
+        assertEquals(game.getLetterState(0, s), WordleGame.LETTER_EXACT);
+    }
+
+    @Test
+    void restart() {
+        game.submitGuess("robot");
+        game.restart(new String[]{"robot", "state", "keeps", "abbey"});
+        assertEquals(game.getRow(), 0);
+        assertEquals(game.getSolvedCount(), 0);
+        assertEquals(game.getSolvedRow(1), -1);
+        assertEquals(game.getLetterState(0, 'r' - 'a'), WordleGame.LETTER_UNKNOWN);
+        game.submitGuess("robot");
+        assertEquals(game.getSolvedRow(0), 0);
+        assertThrows(IllegalArgumentException.class, () -> game.restart(new String[]{"robot"}));
+    }
+}
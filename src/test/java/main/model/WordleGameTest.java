@@ -0,0 +1,172 @@
+package main.model;
+
+import main.main.DictionaryRegistry;
+import main.main.PackedWordSet;
+import main.main.ReadWordsFiles;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the game without its interface. Unlike the
+ * WordleModel test, no JavaFX application needs to be launched.
+ */
+class WordleGameTest {
+
+    private WordleGame game;
+
+    @BeforeEach
+    void setUp() {
+        ReadWordsFiles reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(5));
+        game = new WordleGame(5, "state", reader);
+    }
+
+    @Test
+    void winnerUser() {
+        game.setStreak(2);
+        assertEquals(Feedback.decodePattern(game.submitGuess("tests"), 5), "+++*-");
+        assertEquals(game.getGameState(), GameState.GAME_IN_PROGRESS);
+        assertEquals(game.submitGuess("state"), Feedback.winningPattern(5));
+        assertEquals(game.getGameState(), GameState.GAME_WINNER);
+        assertEquals(game.getCurrentWinStreak(), 3);
+        assertEquals(game.getRow(), 2);
+        assertEquals(game.getCurrentGuessNumber(), 2);
+        assertThrows(IllegalStateException.class, () -> game.submitGuess("state"));
+    }
+
+    @Test
+    void longWords() {
+        WordleGame longGame = new WordleGame(12, "intelligence", new ReadWordsFiles());
+        assertEquals(Feedback.decodePattern(longGame.submitGuess("intellectual"), 12), "******++----");
+        assertEquals(longGame.getLetterState('c' - 'a'), WordleGame.LETTER_MISPLACED);
+        assertEquals(longGame.submitGuess("intelligence"), Feedback.winningPattern(12));
+        assertEquals(longGame.getGameState(), GameState.GAME_WINNER);
+    }
+
+    @Test
+    void loserUser() {
+        game.setStreak(2);
+        for (int i = 0; i < WordleGame.MAX_GUESSES; i++) {
+            game.submitGuess("crane");
+        }
+        assertEquals(game.getGameState(), GameState.GAME_LOSER);
+        assertEquals(game.getCurrentWinStreak(), 0);
+        assertEquals(game.getGuess(5), "crane");
+    }
+
+    @Test
+    void adversarialGame() {
+        WordleGame adversarial = WordleGame.newAdversarialGame(5);
+        int pattern = adversarial.submitGuess("crane");
+        assertNotEquals(pattern, Feedback.winningPattern(5));
+        // The secret word shown is one of the words that fit the feedback
+        assertEquals(Feedback.evaluate(PackedWordSet.pack(adversarial.getSecretWord()), PackedWordSet.pack("crane"), 5), pattern);
+        assertTrue(adversarial.getAdversary().getRemainingCount() > 1);
+        // Evaluating without submitting uses the same secret word as the game
+        assertEquals(adversarial.evaluate("crane"), pattern);
+        assertEquals(game.evaluate("tests"), game.submitGuess("tests"));
+
+        adversarial.restart();
+        assertEquals(adversarial.getAdversary().getRemainingCount(), DictionaryRegistry.getSecretDictionary(5).size());
+        assertNull(game.getAdversary());
+    }
+
+    @Test
+    void listenersSeeEveryGuess() {
+        ArrayList<String> seen = new ArrayList<>();
+        game.addListener((row, guess, pattern) -> seen.add(row + guess + Feedback.decodePattern(pattern, 5)));
+        game.submitGuess("crane");
+        game.submitGuess("state");
+        assertEquals(seen.get(0), "0crane--*-*");
+        assertEquals(seen.get(1), "1state*****");
+    }
+
+    @Test
+    void isAllowed() {
+        assertTrue(game.isAllowed("crane"));
+        assertTrue(game.isAllowed("CRANE".toCharArray(), 0, 5));
+        assertFalse(game.isAllowed("xxxxx"));
+    }
+
+    @Test
+    void hardMode() {
+        // Hints are only enforced once hard mode is on
+        game.submitGuess("crane");
+        assertTrue(game.honorsRevealedHints("blimp".toCharArray(), 0, 5));
+
+        game.setHardMode(true);
+        assertFalse(game.honorsRevealedHints("blimp".toCharArray(), 0, 5));
+        assertEquals(game.describeMissingHint("blimp".toCharArray(), 0, 5), "Letter 3 must be A");
+        assertEquals(game.describeMissingHint("bland".toCharArray(), 0, 5), "Letter 5 must be E");
+        assertNull(game.describeMissingHint("blame".toCharArray(), 0, 5));
+        assertTrue(game.honorsRevealedHints("shake".toCharArray(), 0, 5));
+
+        // A green letter must stay in place
+        game.submitGuess("shake");
+        assertEquals(game.describeMissingHint("quake".toCharArray(), 0, 5), "Letter 1 must be S");
+        assertTrue(game.honorsRevealedHints("SPATE".toCharArray(), 0, 5));
+    }
+
+    @Test
+    void hardModeYellows() {
+        game.setHardMode(true);
+        // "tests" has two yellow letters, an exact T and a wrong second S
+        game.submitGuess("tests");
+        assertEquals(game.describeMissingHint("latte".toCharArray(), 0, 5), "Guess must contain S");
+        assertEquals(game.describeMissingHint("sixty".toCharArray(), 0, 5), "Guess must contain E");
+        assertTrue(game.honorsRevealedHints("sette".toCharArray(), 0, 5));
+    }
+
+    @Test
+    void letterStates() {
+        assertEquals(game.getLetterState('t' - 'a'), WordleGame.LETTER_UNKNOWN);
+        game.submitGuess("tests");
+        assertEquals(game.getLetterState('t' - 'a'), WordleGame.LETTER_EXACT);
+        assertEquals(game.getLetterState('e' - 'a'), WordleGame.LETTER_MISPLACED);
+        // The second S is wrong, but the first one already showed S is in the word
+        assertEquals(game.getLetterState('s' - 'a'), WordleGame.LETTER_MISPLACED);
+
+        game.submitGuess("crane");
+        assertEquals(game.getLetterState('e' - 'a'), WordleGame.LETTER_EXACT);
+        assertEquals(game.getLetterState('a' - 'a'), WordleGame.LETTER_EXACT);
+        assertEquals(game.getLetterState('c' - 'a'), WordleGame.LETTER_WRONG);
+        assertEquals(game.getLetterState('z' - 'a'), WordleGame.LETTER_UNKNOWN);
+    }
+
+    @Test
+    void restartKeepsStreakAndHardMode() {
+        game.setHardMode(true);
+        game.submitGuess("crane");
+        game.submitGuess("state");
+        assertEquals(game.getCurrentWinStreak(), 1);
+
+        game.restart("blame");
+        assertEquals(game.getSecretWord(), "blame");
+        assertEquals(game.getGameState(), GameState.NEW_GAME);
+        assertEquals(game.getRow(), 0);
+        assertEquals(game.getColumn(), -1);
+        assertEquals(game.getCurrentGuessNumber(), 0);
+        assertEquals(game.getCurrentWinStreak(), 1);
+        assertTrue(game.isHardMode());
+        assertEquals(game.getLetterState('s' - 'a'), WordleGame.LETTER_UNKNOWN);
+        // Hints of the previous game are forgotten
+        assertTrue(game.honorsRevealedHints("pious".toCharArray(), 0, 5));
+
+        assertEquals(Feedback.decodePattern(game.submitGuess("blame"), 5), "*****");
+        assertEquals(game.getCurrentWinStreak(), 2);
+    }
+
+    @Test
+    void restartPicksCachedWord() {
+        for (int i = 0; i < 100; i++) {
+            String word = game.restart();
+            assertEquals(word.length(), 5);
+            assertEquals(game.getSecretWord(), word);
+        }
+        assertThrows(IllegalArgumentException.class, () -> game.restart("cat"));
+    }
+}
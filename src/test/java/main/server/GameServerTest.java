@@ -0,0 +1,117 @@
+package main.server;
+
+import main.main.ReadWordsFiles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the game server, on a free local port
+ */
+class GameServerTest {
+
+    private GameServer server;
+
+    private String gamesUrl;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new GameServer(0, 4);
+        server.start();
+        gamesUrl = "http://localhost:" + server.getPort() + "/games";
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    void playGame() throws Exception {
+        assertEquals(status("POST", gamesUrl + "?length=3"), 201);
+        String created = body("POST", gamesUrl + "?length=3");
+        assertEquals(LoadTestClient.field(created, "state"), "NEW_GAME");
+        assertEquals(LoadTestClient.field(created, "length"), "3");
+
+        long id = Long.parseLong(LoadTestClient.field(created, "id"));
+        GameSession game = server.getSessions().get(id);
+        String guessUrl = gamesUrl + "/" + id + "/guesses?word=";
+
+        assertEquals(status("POST", guessUrl + "zzz"), 400);
+        assertEquals(status("POST", guessUrl + "cats"), 400);
+
+        String won = body("POST", guessUrl + game.getSecretWord().toUpperCase());
+        assertEquals(LoadTestClient.field(won, "feedback"), "***");
+        assertEquals(LoadTestClient.field(won, "state"), "GAME_WINNER");
+        assertEquals(LoadTestClient.field(won, "secret"), game.getSecretWord());
+
+        assertEquals(status("POST", guessUrl + game.getSecretWord()), 409);
+        assertEquals(LoadTestClient.field(body("GET", gamesUrl + "/" + id), "guesses"), "1");
+        assertEquals(server.getGuessCount(), 1);
+
+        String restarted = body("POST", gamesUrl + "/" + id + "/restart");
+        assertEquals(LoadTestClient.field(restarted, "state"), "NEW_GAME");
+        assertEquals(LoadTestClient.field(restarted, "streak"), "1");
+        assertEquals(status("POST", gamesUrl + "/" + id + "/restart"), 409);
+    }
+
+    @Test
+    void stats() throws Exception {
+        body("POST", gamesUrl);
+        String stats = body("GET", "http://localhost:" + server.getPort() + "/stats");
+        assertEquals(LoadTestClient.field(stats, "liveSessions"), "1");
+        assertEquals(LoadTestClient.field(stats, "bytesPerSession"), String.valueOf(GameSession.ESTIMATED_BYTES));
+    }
+
+    @Test
+    void dailyPuzzle() throws Exception {
+        long first = Long.parseLong(LoadTestClient.field(body("POST", gamesUrl + "?length=4&daily=true"), "id"));
+        long second = Long.parseLong(LoadTestClient.field(body("POST", gamesUrl + "?length=4&daily=true"), "id"));
+        assertEquals(server.getSessions().get(first).getSecretWord(), server.getSessions().get(second).getSecretWord());
+
+        long seeded = Long.parseLong(LoadTestClient.field(body("POST", gamesUrl + "?seed=7&puzzle=3"), "id"));
+        assertEquals(server.getSessions().get(seeded).getSecretWord(), new ReadWordsFiles()
+                .createSeededWord(ReadWordsFiles.getSecretWordFile(5), 7, 3));
+        assertEquals(status("POST", gamesUrl + "?seed=x"), 400);
+    }
+
+    @Test
+    void badRequests() throws Exception {
+        assertEquals(status("GET", gamesUrl + "/42"), 404);
+        assertEquals(status("GET", gamesUrl), 405);
+        assertEquals(status("POST", gamesUrl + "?length=9"), 400);
+        assertEquals(status("POST", gamesUrl + "/42/guesses?word=cat"), 404);
+        assertEquals(server.getSessions().getLiveSessions(), 0);
+    }
+
+    @Test
+    void loadTest() throws Exception {
+        LoadTestClient load = new LoadTestClient(gamesUrl, 5);
+        load.run(4, 0.5);
+        assertTrue(load.getGuessCount() > 0);
+        assertEquals(load.getErrorCount(), 0);
+        assertEquals(server.getGuessCount(), load.getGuessCount());
+    }
+
+    private int status(String method, String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        return connection.getResponseCode();
+    }
+
+    private String body(String method, String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        connection.setRequestMethod(method);
+        try (InputStream body = connection.getInputStream()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
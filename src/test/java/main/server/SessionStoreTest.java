@@ -0,0 +1,103 @@
+package main.server;
+
+import main.main.PackedWordSet;
+import main.model.GameState;
+import main.model.LetterConstraint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the bounded session store and its compact sessions
+ */
+class SessionStoreTest {
+
+    private SessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new SessionStore(3, 60);
+    }
+
+    @Test
+    void playSession() {
+        GameSession session = store.create(5, false, PackedWordSet.pack("state"));
+        assertSame(store.get(session.getId()), session);
+        assertEquals(session.getSecretWord(), "state");
+
+        session.submitGuess(PackedWordSet.pack("tests"));
+        assertEquals(session.getGameState(), GameState.GAME_IN_PROGRESS);
+        assertEquals(session.submitGuess(PackedWordSet.pack("state")), 242);
+        assertEquals(session.getGameState(), GameState.GAME_WINNER);
+        assertEquals(session.getWinStreak(), 1);
+        assertThrows(IllegalStateException.class, () -> session.submitGuess(PackedWordSet.pack("state")));
+
+        session.restart(PackedWordSet.pack("blame"));
+        assertEquals(session.getGuessCount(), 0);
+        assertEquals(session.getWinStreak(), 1);
+    }
+
+    @Test
+    void hardMode() {
+        GameSession session = store.create(5, true, PackedWordSet.pack("state"));
+        session.submitGuess(PackedWordSet.pack("tests"));
+        LetterConstraint hints = new LetterConstraint(5);
+        assertEquals(session.describeMissingHint("latte".toCharArray(), hints), "Guess must contain S");
+        assertNull(session.describeMissingHint("sette".toCharArray(), hints));
+    }
+
+    @Test
+    void sizeEviction() {
+        GameSession first = store.create(3, false, PackedWordSet.pack("cat"));
+        store.create(3, false, PackedWordSet.pack("dog"));
+        store.create(3, false, PackedWordSet.pack("row"));
+        GameSession fourth = store.create(3, false, PackedWordSet.pack("win"));
+
+        assertEquals(store.getLiveSessions(), 3);
+        assertEquals(store.getSizeEvictions(), 1);
+        assertEquals(store.getCreated(), 4);
+        // The least recently used session is the one evicted
+        assertNull(store.get(first.getId()));
+        assertSame(store.get(fourth.getId()), fourth);
+    }
+
+    @Test
+    void idleEviction() throws InterruptedException {
+        store = new SessionStore(10, 0.05);
+        GameSession session = store.create(3, false, PackedWordSet.pack("cat"));
+        store.create(3, false, PackedWordSet.pack("dog"));
+        Thread.sleep(100);
+
+        assertNull(store.get(session.getId()));
+        assertEquals(store.evictIdle(), 1);
+        assertEquals(store.getIdleEvictions(), 2);
+        assertEquals(store.getLiveSessions(), 0);
+        assertEquals(store.getEstimatedBytes(), 0);
+    }
+
+    @Test
+    void concurrentCreate() throws InterruptedException {
+        store = new SessionStore(50, 60);
+        Thread[] threads = new Thread[8];
+        int[] maxSeen = new int[threads.length];
+        for (int t = 0; t < threads.length; t++) {
+            int index = t;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 5_000; i++) {
+                    store.create(3, false, PackedWordSet.pack("cat"));
+                    maxSeen[index] = Math.max(maxSeen[index], store.getLiveSessions());
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) { thread.join(); }
+
+        // The bound holds while threads race to create sessions, not only at the end
+        for (int max : maxSeen) { assertTrue(max <= 50); }
+        // Threads evicting together may each free a slot, at most one too many per thread
+        assertTrue(store.getLiveSessions() <= 50 && store.getLiveSessions() >= 50 - threads.length);
+        assertEquals(store.getCreated(), 40_000);
+        assertEquals(store.getSizeEvictions(), 40_000 - store.getLiveSessions());
+    }
+}
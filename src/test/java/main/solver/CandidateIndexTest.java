@@ -0,0 +1,66 @@
+package main.solver;
+
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+import main.model.LetterConstraint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the bitset index, checked against evaluating
+ * the feedback of every guess against every word
+ */
+class CandidateIndexTest {
+
+    private List<String> words;
+    private CandidateIndex index;
+
+    private final int[] letterCounts = new int[Feedback.ALPHABET_SIZE];
+
+    @BeforeEach
+    void setUp() {
+        words = ReadWordsFiles.readWords(ReadWordsFiles.getSecretWordFile(5));
+        index = new CandidateIndex(words);
+    }
+
+    @Test
+    void all() {
+        assertEquals(CandidateIndex.count(index.all()), words.size());
+        int[] indices = new int[words.size()];
+        assertEquals(CandidateIndex.toIndices(index.all(), indices), words.size());
+        assertEquals(indices[words.size() - 1], words.size() - 1);
+    }
+
+    @Test
+    void applyMatchesFeedback() {
+        Random random = new Random(205);
+        for (int game = 0; game < 50; game++) {
+            byte[] secret = Feedback.toLetters(words.get(random.nextInt(words.size())));
+            LetterConstraint constraint = new LetterConstraint(5);
+            byte[][] guesses = new byte[3][];
+            int[] patterns = new int[3];
+            for (int i = 0; i < guesses.length; i++) {
+                guesses[i] = Feedback.toLetters(words.get(random.nextInt(words.size())));
+                patterns[i] = Feedback.evaluate(secret, guesses[i], 5, letterCounts);
+                constraint.add(guesses[i], patterns[i]);
+            }
+
+            long[] set = index.all();
+            index.apply(constraint, set);
+            for (int w = 0; w < words.size(); w++) {
+                byte[] word = Feedback.toLetters(words.get(w));
+                boolean consistent = true;
+                for (int i = 0; i < guesses.length; i++) {
+                    consistent &= Feedback.evaluate(word, guesses[i], 5, letterCounts) == patterns[i];
+                }
+                assertEquals((set[w >>> 6] >>> w & 1) == 1, consistent, words.get(w));
+                assertEquals(constraint.matches(word), consistent, words.get(w));
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package main.solver;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the parallel opening search, on the 3-letter mode
+ */
+class OpeningSearchTest {
+
+    private OpeningSearch search;
+
+    @BeforeEach
+    void setUp() {
+        search = OpeningSearch.forWordLength(3);
+    }
+
+    @Test
+    void rankMatchesSolver() {
+        WordleSolver solver = WordleSolver.forWordLength(3);
+        List<Hint> ranking = search.rank();
+        assertEquals(ranking.size(), solver.getMatrix().getGuesses().size());
+        assertEquals(ranking.get(0).getEntropy(), solver.suggest(new String[0], new int[0]).getEntropy(), 1e-9);
+        for (int i = 1; i < ranking.size(); i++) {
+            assertTrue(ranking.get(i - 1).getEntropy() >= ranking.get(i).getEntropy());
+        }
+    }
+
+    @Test
+    void entropy() {
+        assertEquals(OpeningSearch.entropy(new int[] {4, 0, 0}, 4), 0.0, 1e-9);
+        assertEquals(OpeningSearch.entropy(new int[] {1, 1, 1, 1}, 4), 2.0, 1e-9);
+        assertEquals(OpeningSearch.entropy(new int[] {2, 1, 1}, 4), 1.5, 1e-9);
+    }
+}
@@ -0,0 +1,60 @@
+package main.solver;
+
+import main.model.WordleGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the self-play simulation, on a few 3-letter words
+ */
+class SimulationTest {
+
+    private Simulation simulation;
+
+    @BeforeEach
+    void setUp() {
+        simulation = new Simulation(3, List.of("win", "row", "the", "zoo", "cat"));
+    }
+
+    @Test
+    void run() {
+        Simulation.GameResult[] results = simulation.run();
+        assertEquals(results.length, 5);
+        assertEquals(results[1].getSecret(), "row");
+        for (Simulation.GameResult result : results) {
+            assertTrue(result.isWon());
+            assertEquals(result.getGuesses()[result.getGuessCount() - 1], result.getSecret());
+            assertTrue(result.getGuessCount() <= WordleGame.MAX_GUESSES);
+        }
+        assertEquals(simulation.getWinRate(), 1.0);
+        assertEquals(simulation.getGuessHistogram()[0], 0);
+        assertTrue(simulation.getLatencyPercentile(50) <= simulation.getLatencyPercentile(99));
+    }
+
+    @Test
+    void hardMode() {
+        Simulation hardSimulation = new Simulation(3, List.of("win", "row", "the", "zoo", "cat"), true);
+        for (Simulation.GameResult result : hardSimulation.run()) {
+            assertEquals(result.getGuesses()[result.getGuessCount() - 1].equals(result.getSecret()), result.isWon());
+        }
+    }
+
+    @Test
+    void writeCsv() throws IOException {
+        simulation.run();
+        Path csv = Files.createTempFile("simulation", ".csv");
+        simulation.writeCsv(csv);
+        List<String> lines = Files.readAllLines(csv);
+        Files.delete(csv);
+        assertEquals(lines.size(), 6);
+        assertEquals(lines.get(0), "word,won,guesses,micros,sequence");
+        assertTrue(lines.get(1).startsWith("win,true,"));
+    }
+}
@@ -0,0 +1,63 @@
+package main.solver;
+
+import main.main.ReadWordsFiles;
+import main.model.Feedback;
+import main.model.GameState;
+import main.model.WordleGame;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simple JUnit test for the entropy solver, played on the 3-letter mode
+ * since its pattern matrix is the smallest
+ */
+class WordleSolverTest {
+
+    private WordleSolver solver;
+    private ReadWordsFiles reader;
+
+    @BeforeEach
+    void setUp() {
+        solver = WordleSolver.forWordLength(3);
+        reader = new ReadWordsFiles();
+        reader.createWordSet(ReadWordsFiles.getAllowedWordFile(3));
+    }
+
+    @Test
+    void openingHint() {
+        Hint hint = solver.suggest(new String[0], new int[0]);
+        assertEquals(hint.getRemainingCandidates(), solver.getMatrix().getSecrets().size());
+        assertTrue(hint.getEntropy() > 0);
+        assertSame(solver.suggest(new String[0], new int[0]), hint);
+    }
+
+    @Test
+    void candidatesMatchHistory() {
+        String[] guesses = {"row"};
+        int[] patterns = {Feedback.evaluate("win".toCharArray(), "row".toCharArray(), 3, new int[Feedback.ALPHABET_SIZE])};
+        int[] candidates = new int[solver.getMatrix().getSecrets().size()];
+        int count = solver.filterCandidates(guesses, patterns, candidates);
+        boolean found = false;
+        for (int i = 0; i < count; i++) {
+            String candidate = solver.getMatrix().getSecrets().get(candidates[i]);
+            assertEquals(Feedback.evaluate(candidate.toCharArray(), "row".toCharArray(), 3, new int[Feedback.ALPHABET_SIZE]), patterns[0]);
+            found |= candidate.equals("win");
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    void solvesGames() {
+        for (String secret : new String[] {"win", "row", "the", "zoo"}) {
+            WordleGame game = new WordleGame(3, secret, reader);
+            while (game.getGameState().isPlayable()) {
+                String guess = solver.suggest(game).getGuess();
+                assertTrue(game.isAllowed(guess));
+                game.submitGuess(guess);
+            }
+            assertEquals(game.getGameState(), GameState.GAME_WINNER);
+        }
+    }
+}